@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# k6 --summary-export 결과 두 개를 README 결과 표 형식으로 출력
+# 사용: ./summarize.sh platform.json virtual.json
+set -euo pipefail
+
+if [ $# -ne 2 ]; then
+    echo "사용법: $0 <플랫폼 스레드 summary.json> <가상 스레드 summary.json>" >&2
+    exit 1
+fi
+
+latency() {
+    jq -r --arg m "$2" '.metrics[$m] | if . == null then "-" else "\(.med | round) / \(.["p(99)"] | round)" end' "$1"
+}
+
+row() {
+    echo "| $1 | $2 | $3 |"
+}
+
+echo "| 항목 | 플랫폼 스레드 | 가상 스레드 |"
+echo "|------|---------------|-------------|"
+row "객실 검색 p50 / p99 (ms)" "$(latency "$1" room_search_ms)" "$(latency "$2" room_search_ms)"
+row "내 예약 목록 p50 / p99 (ms)" "$(latency "$1" my_bookings_ms)" "$(latency "$2" my_bookings_ms)"
+row "로그인 p50 / p99 (ms)" "$(latency "$1" login_ms)" "$(latency "$2" login_ms)"
+# 오류율 1% 초과 시 중단되므로 최대 VU 수가 오류율 1% 미만에서 버틴 동시 요청 수
+row "최대 동시 요청 수 (오류율 1% 미만)" \
+    "$(jq -r '.metrics.vus.max // "-"' "$1")" "$(jq -r '.metrics.vus.max // "-"' "$2")"
+row "실패 요청 수" \
+    "$(jq -r '.metrics.failed_requests.count // 0' "$1")" "$(jq -r '.metrics.failed_requests.count // 0' "$2")"
@@ -0,0 +1,77 @@
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 k6 부하 테스트
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e USER_ID=loadtest -e USER_PASSWORD=... thread-modes.js
+// 결과 정리: README.md 참고
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend, Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USER_ID = __ENV.USER_ID || 'loadtest';
+const USER_PASSWORD = __ENV.USER_PASSWORD || 'loadtest1234';
+const MAX_VUS = Number(__ENV.MAX_VUS || 800);
+
+// 엔드포인트별 응답 시간 (p50/p99 비교용)
+const roomSearch = new Trend('room_search_ms', true);
+const myBookings = new Trend('my_bookings_ms', true);
+const login = new Trend('login_ms', true);
+const failures = new Counter('failed_requests');
+
+export const options = {
+    scenarios: {
+        // 동시 사용자 수를 단계적으로 늘려 최대 동시 처리량 확인
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: MAX_VUS / 4 },
+                { duration: '2m', target: MAX_VUS / 2 },
+                { duration: '2m', target: MAX_VUS },
+                { duration: '1m', target: 0 },
+            ],
+        },
+    },
+    // 오류율이 1%를 넘으면 중단 (중단 시점의 VU 수 = 오류율 1% 미만에서 버틴 최대 동시 요청 수)
+    thresholds: {
+        http_req_failed: [{ threshold: 'rate<0.01', abortOnFail: true, delayAbortEval: '30s' }],
+    },
+    summaryTrendStats: ['min', 'med', 'p(90)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ id: USER_ID, password: USER_PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'setup login ok': (r) => r.status === 200 });
+    return { token: res.json('data.token') };
+}
+
+function dateAfter(days) {
+    const d = new Date();
+    d.setDate(d.getDate() + days);
+    return d.toISOString().slice(0, 10);
+}
+
+export default function (data) {
+    const auth = { headers: { Authorization: `Bearer ${data.token}` } };
+    const r = Math.random();
+
+    if (r < 0.6) {
+        // 객실 검색 (JDBC 블로킹)
+        const offset = 7 + Math.floor(Math.random() * 60);
+        const res = http.get(`${BASE_URL}/api/rooms?checkInDate=${dateAfter(offset)}&checkOutDate=${dateAfter(offset + 2)}`);
+        roomSearch.add(res.timings.duration);
+        if (!check(res, { 'rooms 200': (x) => x.status === 200 })) failures.add(1);
+    } else if (r < 0.9) {
+        // 내 예약 목록 (JWT 검증 + JDBC)
+        const res = http.get(`${BASE_URL}/api/bookings`, auth);
+        myBookings.add(res.timings.duration);
+        if (!check(res, { 'bookings 200': (x) => x.status === 200 })) failures.add(1);
+    } else {
+        // 로그인 (BCrypt, CPU 사용)
+        const res = http.post(`${BASE_URL}/api/auth/login`,
+            JSON.stringify({ id: USER_ID, password: USER_PASSWORD }),
+            { headers: { 'Content-Type': 'application/json' } });
+        login.add(res.timings.duration);
+        if (!check(res, { 'login 200': (x) => x.status === 200 })) failures.add(1);
+    }
+}
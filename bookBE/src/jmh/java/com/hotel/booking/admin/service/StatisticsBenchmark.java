@@ -0,0 +1,47 @@
+package com.hotel.booking.admin.service;
+
+import com.hotel.booking.benchmark.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 통계 (AdminService.getStatistics → booking_daily_stats 롤업)
+ * 조회 구간: 시드 데이터 전체 기간
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StatisticsBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int bookings;
+
+    private BenchmarkEnvironment environment;
+    private AdminService adminService;
+    private int startYear;
+    private int endYear;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        environment = BenchmarkEnvironment.start(bookings);
+        adminService = environment.getBean(AdminService.class);
+        startYear = BenchmarkEnvironment.FIRST_CHECK_IN.getYear() - 1;
+        endYear = BenchmarkEnvironment.FIRST_CHECK_IN
+                .plusDays((long) bookings / BenchmarkEnvironment.ROOMS * 3).getYear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public Object statistics() {
+        return adminService.getStatistics(startYear, endYear);
+    }
+
+    @Benchmark
+    public Object dashboard() {
+        return adminService.getDashboard(startYear + 1, 6);
+    }
+}
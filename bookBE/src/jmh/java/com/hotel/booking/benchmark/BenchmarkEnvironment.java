@@ -0,0 +1,126 @@
+package com.hotel.booking.benchmark;
+
+import com.hotel.booking.BookingApplication;
+import com.hotel.booking.admin.service.BookingStatisticsService;
+import com.hotel.booking.review.service.RoomRatingCache;
+import com.hotel.booking.room.service.RoomAvailabilityIndex;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+
+/**
+ * 벤치마크용 실행 환경: 내장 PostgreSQL + 스프링 컨텍스트(웹 서버 없음) + 합성 데이터
+ * - 네이티브 쿼리(ON CONFLICT, generate_series, SKIP LOCKED)가 있어 H2 대신 실제 PostgreSQL 사용
+ * - 데이터는 generate_series로 DB 안에서 생성 (100만 건도 수십 초 내)
+ *
+ * 데이터 구성 (bookings = N)
+ * - 객실 600개 (타입 6개 x 100개), 사용자 1,000명 + 자주 이용하는 사용자 1명(예약 100건)
+ * - 객실마다 3일 간격으로 겹치지 않는 예약, 10건 중 1건 취소, 지난 예약은 체크아웃 완료
+ * - 모든 예약에 결제 1건, 체크아웃 완료 예약 5건 중 1건에 리뷰
+ */
+public class BenchmarkEnvironment implements AutoCloseable {
+    public static final String FREQUENT_USER_ID = "frequent";
+    public static final int ROOM_TYPES = 6;
+    public static final int ROOMS = 600;
+    public static final LocalDate FIRST_CHECK_IN = LocalDate.of(2015, 1, 1);
+
+    private final EmbeddedPostgres postgres;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkEnvironment(EmbeddedPostgres postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    public static BenchmarkEnvironment start(int bookings) {
+        EmbeddedPostgres postgres;
+        try {
+            postgres = EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("내장 PostgreSQL 시작 실패", e);
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BookingApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=postgres",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.mail.username=benchmark",
+                        "spring.mail.password=benchmark",
+                        "mail.outbox.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        BenchmarkEnvironment environment = new BenchmarkEnvironment(postgres, context);
+        environment.seed(bookings);
+        return environment;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed(int bookings) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        String password = "benchmark-user"; // 로그인에 쓰이지 않음
+
+        jdbc.update("INSERT INTO users (id, password, email, nickname, role, created_at) " +
+                "SELECT 'bench' || g, ?, 'bench' || g || '@bench.local', 'bench' || g, 'USER', now() " +
+                "FROM generate_series(1, 1000) g", password);
+        jdbc.update("INSERT INTO users (id, password, email, nickname, role, created_at) " +
+                "VALUES (?, ?, 'frequent@bench.local', 'frequent', 'USER', now())", FREQUENT_USER_ID, password);
+
+        jdbc.update("INSERT INTO rooms (name, description, type, capacity, price_per_night, available, status, view_type, bed_count) " +
+                "SELECT 'Room ' || g, repeat('넓은 창과 욕조가 있는 객실입니다. ', 20), 'TYPE' || (g % " + ROOM_TYPES + "), " +
+                "2, 100000 + (g % " + ROOM_TYPES + ") * 50000, true, 'CLEAN', " +
+                "CASE WHEN g % 2 = 0 THEN '오션뷰' ELSE '마운틴뷰' END, 1 + g % 2 " +
+                "FROM generate_series(1, " + ROOMS + ") g");
+
+        // 객실 ID는 1..ROOMS, 예약 ID g는 객실 (g % ROOMS) + 1의 (g / ROOMS)번째 3일 구간
+        jdbc.update("INSERT INTO bookings (id, user_id, room_id, check_in_date, check_out_date, guests, total_price, status, created_at) " +
+                "SELECT g, CASE WHEN g <= 100 THEN ? ELSE 'bench' || (g % 1000 + 1) END, " +
+                "(g % " + ROOMS + ") + 1, d, d + 2, 2, 200000, " +
+                "CASE WHEN g % 10 = 0 THEN 'CANCELLED' WHEN d + 2 < current_date THEN 'CHECKED_OUT' ELSE 'CONFIRMED' END, " +
+                "(d - 30)::timestamp " +
+                "FROM (SELECT g, ?::date + (g / " + ROOMS + ") * 3 AS d FROM generate_series(1, ?) g) s",
+                FREQUENT_USER_ID, FIRST_CHECK_IN, bookings);
+
+        jdbc.update("INSERT INTO payments (id, booking_id, amount, method, status, payment_date, transaction_id) " +
+                "SELECT id, id, total_price, 'CARD', CASE WHEN status = 'CANCELLED' THEN 'REFUNDED' ELSE 'PAID' END, " +
+                "created_at, md5(id::text) FROM bookings");
+
+        // 예약/결제 ID는 시퀀스(INCREMENT 50)에서 할당되므로 시드 ID 이후부터 할당되도록 맞춤
+        jdbc.queryForObject("SELECT setval('bookings_seq', GREATEST(?, 1))", Long.class, bookings);
+        jdbc.queryForObject("SELECT setval('payments_seq', GREATEST(?, 1))", Long.class, bookings);
+
+        jdbc.update("INSERT INTO reviews (user_id, room_id, booking_id, rating, title, comment, is_public, created_at) " +
+                "SELECT user_id, room_id, id, 1 + (id / 5) % 5, '리뷰', '좋았습니다', true, check_out_date::timestamp " +
+                "FROM bookings WHERE status = 'CHECKED_OUT' AND id % 5 = 0");
+
+        jdbc.execute("ANALYZE");
+
+        // 시작 시 로드된 인메모리 구조를 시드 데이터 기준으로 다시 구성
+        context.getBean(RoomAvailabilityIndex.class).rebuild();
+        context.getBean(RoomRatingCache.class).reload();
+        context.getBean(BookingStatisticsService.class).rebuild();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        try {
+            postgres.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.hotel.booking.booking.service;
+
+import com.hotel.booking.benchmark.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 목록 조회 + DTO 변환 (BookingService.convertToDTO 포함)
+ * 예약 100건을 가진 사용자 기준, 전체 예약 수가 늘어나도 비용이 유지되는지 확인
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BookingQueryBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int bookings;
+
+    private BenchmarkEnvironment environment;
+    private BookingService bookingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        environment = BenchmarkEnvironment.start(bookings);
+        bookingService = environment.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public Object userBookings() {
+        return bookingService.getUserBookings(BenchmarkEnvironment.FREQUENT_USER_ID);
+    }
+
+    @Benchmark
+    public Object reviewableBookings() {
+        return bookingService.getReviewableBookings(BenchmarkEnvironment.FREQUENT_USER_ID);
+    }
+}
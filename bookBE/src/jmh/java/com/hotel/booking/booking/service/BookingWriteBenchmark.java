@@ -0,0 +1,79 @@
+package com.hotel.booking.booking.service;
+
+import com.hotel.booking.benchmark.BenchmarkEnvironment;
+import com.hotel.booking.booking.dto.BookingRequest;
+import com.hotel.booking.booking.dto.BulkBookingRequest;
+import com.hotel.booking.payment.entity.Payment;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 생성 쓰기 비용: 예약 N건을 createBooking N번(트랜잭션 N개)으로 / createBookings 한 번(트랜잭션 1개)으로
+ * - 두 방식 모두 호출 한 번에 예약 N건을 만들므로 평균 시간을 N으로 나누면 예약 1건당 비용
+ * - 예약은 겹치지 않도록 2100년 이후 날짜에 객실을 돌아가며 배정 (실행할수록 데이터가 늘어남)
+ * - IDENTITY 기준 비교값: Booking/Payment의 @GeneratedValue를 GenerationType.IDENTITY로 바꾸고(@SequenceGenerator 제거)
+ *   같은 명령으로 실행 (내장 PostgreSQL을 새로 띄우므로 스키마는 자동 생성)
+ *   ./gradlew jmh -PjmhIncludes=BookingWriteBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BookingWriteBenchmark {
+    private static final LocalDate FIRST_CHECK_IN = LocalDate.of(2100, 1, 1);
+
+    @Param({"single", "bulk"})
+    public String mode;
+
+    @Param({"1", "10", "50"})
+    public int bookings;
+
+    private BenchmarkEnvironment environment;
+    private BookingService bookingService;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        environment = BenchmarkEnvironment.start(1000);
+        bookingService = environment.getBean(BookingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public void createBookings(Blackhole bh) {
+        List<BookingRequest> requests = nextRequests();
+        if ("bulk".equals(mode)) {
+            BulkBookingRequest request = new BulkBookingRequest();
+            request.setBookings(requests);
+            bh.consume(bookingService.createBookings(BenchmarkEnvironment.FREQUENT_USER_ID, request));
+        } else {
+            for (BookingRequest request : requests) {
+                bh.consume(bookingService.createBooking(BenchmarkEnvironment.FREQUENT_USER_ID, request));
+            }
+        }
+    }
+
+    private List<BookingRequest> nextRequests() {
+        List<BookingRequest> requests = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            long n = sequence++;
+            LocalDate checkIn = FIRST_CHECK_IN.plusDays(n / BenchmarkEnvironment.ROOMS * 2);
+            BookingRequest request = new BookingRequest();
+            request.setRoomId(n % BenchmarkEnvironment.ROOMS + 1);
+            request.setCheckInDate(checkIn);
+            request.setCheckOutDate(checkIn.plusDays(1));
+            request.setGuests(2);
+            request.setMethod(Payment.PaymentMethod.CARD);
+            requests.add(request);
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,84 @@
+package com.hotel.booking.booking.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 예약 잠금 방식 비교: 객실별 스트라이프 잠금 / 전역 잠금 1개 / 잠금 없음
+ * - 객실 500개 중 20% 요청은 인기 객실 1개로 몰리도록 구성
+ * - 임계 구역 작업량은 consumeCPU로 흉내 냄 (중복 검사 + insert 대체)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ReservationLockBenchmark {
+    private static final int ROOMS = 500;
+    private static final long HOT_ROOM_ID = 1L;
+
+    @Param({"striped", "global", "none"})
+    public String mode;
+
+    @Param({"64"})
+    public int stripes;
+
+    @Param({"200"})
+    public long workTokens;
+
+    private ReservationLockManager lockManager;
+    private ReentrantLock globalLock;
+
+    @Setup
+    public void setUp() {
+        lockManager = new ReservationLockManager(stripes, 10_000);
+        globalLock = new ReentrantLock();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void threads01(Blackhole bh) {
+        reserve(bh);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void threads04(Blackhole bh) {
+        reserve(bh);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void threads16(Blackhole bh) {
+        reserve(bh);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void threads64(Blackhole bh) {
+        reserve(bh);
+    }
+
+    private void reserve(Blackhole bh) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long roomId = random.nextInt(5) == 0 ? HOT_ROOM_ID : 2 + random.nextInt(ROOMS - 1);
+        switch (mode) {
+            case "striped" -> lockManager.withRoomLock(roomId, () -> {
+                Blackhole.consumeCPU(workTokens);
+                return null;
+            });
+            case "global" -> {
+                globalLock.lock();
+                try {
+                    Blackhole.consumeCPU(workTokens);
+                } finally {
+                    globalLock.unlock();
+                }
+            }
+            default -> Blackhole.consumeCPU(workTokens);
+        }
+        bh.consume(roomId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.hotel.booking.common.util;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 + 클레임 추출 (JwtAuthenticationFilter가 요청마다 하는 작업)
+ * cacheSize 0 = 매번 HMAC 검증, 10000 = 검증된 토큰 캐시 사용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+    @Param({"0", "10000"})
+    public int cacheSize;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtUtil = new JwtUtil();
+        set("secret", "mySecretKeyForJWTTokenGeneration12345678901234567890");
+        set("expiration", 2592000000L);
+        set("cacheSize", cacheSize);
+        jwtUtil.init();
+        token = jwtUtil.generateToken("benchuser", "USER");
+    }
+
+    @Benchmark
+    public void parseClaims(Blackhole bh) {
+        Claims claims = jwtUtil.parseClaims(token);
+        bh.consume(claims.getSubject());
+        bh.consume(claims.get("role", String.class));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = JwtUtil.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtUtil, value);
+    }
+}
@@ -0,0 +1,75 @@
+package com.hotel.booking.room.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.booking.room.dto.RoomDTO;
+import com.hotel.booking.room.entity.Room;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 객실 목록 응답 본문 쓰기
+ * - jackson: ResponseEntity<List<RoomDTO>> (MappingJackson2HttpMessageConverter가 목록 전체 직렬화)
+ * - fragments: RoomJsonCache 조각 이어 붙이기 + 바이트 그대로 쓰기 (RoomCatalogCache 캐시 미스 경로)
+ * rooms 6 = 타입별 목록(/api/rooms), 100 = 타입 필터 목록(/api/rooms/type/{type})
+ * 요청마다 RoomService가 새 DTO를 만드는 것과 같도록 캐시를 채운 DTO와 다른 인스턴스로 조회
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RoomJsonBenchmark {
+    @Param({"6", "100"})
+    public int rooms;
+
+    private ObjectMapper objectMapper;
+    private RoomJsonCache jsonCache;
+    private List<RoomDTO> requestRooms;
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        jsonCache = new RoomJsonCache(objectMapper);
+        jsonCache.writeList(createRooms());
+        requestRooms = createRooms();
+    }
+
+    @Benchmark
+    public void jackson() throws IOException {
+        objectMapper.writeValue(out, requestRooms);
+    }
+
+    @Benchmark
+    public void fragments() throws IOException {
+        out.write(jsonCache.writeList(requestRooms));
+    }
+
+    private List<RoomDTO> createRooms() {
+        String description = "바다가 내려다보이는 넓은 객실입니다. ".repeat(40);
+        List<RoomDTO> list = new ArrayList<>(rooms);
+        for (int i = 0; i < rooms; i++) {
+            list.add(RoomDTO.builder()
+                    .id((long) i + 1)
+                    .name("객실 " + (i + 1))
+                    .description(description)
+                    .type("TYPE_" + (i % 6))
+                    .capacity(2 + i % 3)
+                    .pricePerNight(BigDecimal.valueOf(100000 + (i % 6) * 50000L))
+                    .available(true)
+                    .status(Room.RoomStatus.CLEAN)
+                    .imageUrl("/images/rooms/" + (i % 6) + ".jpg")
+                    .averageRating(4.3)
+                    .reviewCount(120)
+                    .allBooked(false)
+                    .viewType(i % 2 == 0 ? "오션뷰" : "마운틴뷰")
+                    .bedCount(1 + i % 2)
+                    .build());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,48 @@
+package com.hotel.booking.room.service;
+
+import com.hotel.booking.benchmark.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 객실 검색 (RoomService.getAvailableRooms → 가용성 인덱스 + getUniqueRoomsByType)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RoomSearchBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int bookings;
+
+    private BenchmarkEnvironment environment;
+    private RoomService roomService;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        environment = BenchmarkEnvironment.start(bookings);
+        roomService = environment.getBean(RoomService.class);
+        // 예약이 차 있는 구간의 중간 날짜로 검색
+        long days = (long) bookings / BenchmarkEnvironment.ROOMS * 3;
+        checkIn = BenchmarkEnvironment.FIRST_CHECK_IN.plusDays(days / 2);
+        checkOut = checkIn.plusDays(2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public Object searchByDates() {
+        return roomService.getAvailableRooms(checkIn, checkOut);
+    }
+
+    @Benchmark
+    public Object listAll() {
+        return roomService.getAllRooms();
+    }
+}
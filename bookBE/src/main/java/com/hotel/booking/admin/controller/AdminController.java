@@ -2,13 +2,20 @@ package com.hotel.booking.admin.controller;
 
 import com.hotel.booking.admin.dto.*;
 import com.hotel.booking.admin.service.AdminService;
+import com.hotel.booking.admin.service.DashboardStreamService;
 import com.hotel.booking.booking.dto.BookingDTO;
+import com.hotel.booking.common.dto.CursorPage;
+import com.hotel.booking.booking.dto.ReservationLockStatsDTO;
 import com.hotel.booking.notice.dto.NoticeDTO;
 import com.hotel.booking.review.dto.ReviewDTO;
 import com.hotel.booking.room.dto.RoomDTO;
+import com.hotel.booking.user.dto.MailOutboxStatsDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,6 +24,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AdminController {
     private final AdminService adminService;
+    private final DashboardStreamService dashboardStreamService;
 
     // 대시보드
     @GetMapping("/dashboard")
@@ -31,6 +39,15 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getDashboard(year, month));
     }
 
+    /**
+     * 대시보드 실시간 스트림 (SSE)
+     * 연결 시 snapshot 이벤트로 전체 상태, 이후 delta 이벤트로 바뀐 항목만 전송 (이번 달 통계 기준)
+     */
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        return dashboardStreamService.subscribe();
+    }
+
     @GetMapping("/bookings/today-checkins")
     public ResponseEntity<List<BookingDTO>> getTodayCheckIns() {
         return ResponseEntity.ok(adminService.getTodayCheckIns());
@@ -76,6 +93,18 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getStatistics(startYear, endYear));
     }
 
+    @PostMapping("/statistics/rebuild")
+    public ResponseEntity<Void> rebuildStatistics() {
+        adminService.rebuildStatistics();
+        return ResponseEntity.accepted().build(); // 이벤트 디스패처에서 비동기로 재계산
+    }
+
+    @PostMapping("/cache/evict")
+    public ResponseEntity<Void> evictReferenceCaches() {
+        adminService.evictReferenceCaches();
+        return ResponseEntity.ok().build();
+    }
+
     // 객실 관리
     @GetMapping("/rooms")
     public ResponseEntity<List<RoomDTO>> getAllRooms() {
@@ -123,6 +152,22 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllBookings());
     }
 
+    @GetMapping("/bookings/page")
+    public ResponseEntity<CursorPage<BookingDTO>> getBookingsPage(
+            @ModelAttribute BookingSearchCondition condition,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(adminService.getBookingsPage(condition, cursor, size));
+    }
+
+    @GetMapping(value = "/bookings/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportBookings(@ModelAttribute BookingSearchCondition condition) {
+        StreamingResponseBody body = out -> adminService.exportBookings(condition, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @GetMapping("/bookings/{id}")
     public ResponseEntity<BookingDTO> getBookingById(@PathVariable Long id) {
         return ResponseEntity.ok(adminService.getBookingById(id));
@@ -136,12 +181,38 @@ public class AdminController {
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/bookings/lock-stats")
+    public ResponseEntity<ReservationLockStatsDTO> getReservationLockStats() {
+        return ResponseEntity.ok(adminService.getReservationLockStats());
+    }
+
+    @GetMapping("/mail-outbox/stats")
+    public ResponseEntity<MailOutboxStatsDTO> getMailOutboxStats() {
+        return ResponseEntity.ok(adminService.getMailOutboxStats());
+    }
+
     // 리뷰 관리
     @GetMapping("/reviews")
     public ResponseEntity<List<ReviewDTO>> getAllReviews() {
         return ResponseEntity.ok(adminService.getAllReviews());
     }
 
+    @GetMapping("/reviews/page")
+    public ResponseEntity<CursorPage<ReviewDTO>> getReviewsPage(
+            @ModelAttribute ReviewSearchCondition condition,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(adminService.getReviewsPage(condition, cursor, size));
+    }
+
+    @GetMapping(value = "/reviews/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportReviews(@ModelAttribute ReviewSearchCondition condition) {
+        StreamingResponseBody body = out -> adminService.exportReviews(condition, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @GetMapping("/reviews/{id}")
     public ResponseEntity<ReviewDTO> getReviewById(@PathVariable Long id) {
         return ResponseEntity.ok(adminService.getReviewById(id));
@@ -181,6 +252,13 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllNotices());
     }
 
+    @GetMapping("/notices/page")
+    public ResponseEntity<CursorPage<NoticeDTO>> getNoticesPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(adminService.getNoticesPage(cursor, size));
+    }
+
     @PostMapping("/notices")
     public ResponseEntity<NoticeDTO> createNotice(@RequestBody NoticeDTO noticeDTO) {
         return ResponseEntity.ok(adminService.createNotice(noticeDTO));
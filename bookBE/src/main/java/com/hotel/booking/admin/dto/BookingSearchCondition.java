@@ -0,0 +1,22 @@
+package com.hotel.booking.admin.dto;
+
+import com.hotel.booking.booking.entity.Booking;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 예약 목록 필터 (모두 선택 사항, 날짜는 체크인 날짜 기준)
+ */
+@Data
+public class BookingSearchCondition {
+    private Booking.BookingStatus status;
+    private Long roomId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fromDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate toDate;
+}
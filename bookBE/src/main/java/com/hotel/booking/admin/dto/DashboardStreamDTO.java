@@ -0,0 +1,30 @@
+package com.hotel.booking.admin.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hotel.booking.booking.dto.BookingDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 관리자 대시보드 SSE 이벤트 데이터
+ * snapshot 이벤트는 모든 항목, delta 이벤트는 바뀐 항목만 포함 (null 항목은 생략)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardStreamDTO {
+    private Long version;
+    private LocalDate date; // 기준일 (오늘)
+    private List<DashboardDTO.BookingSummaryDTO> todayCheckIns;
+    private List<DashboardDTO.BookingSummaryDTO> todayCheckOuts;
+    private DashboardDTO.MonthlyStatsDTO monthlyStats;
+    private DashboardDTO.RoomStatusSummaryDTO roomStatusSummary;
+    private List<BookingDTO> currentStays;
+}
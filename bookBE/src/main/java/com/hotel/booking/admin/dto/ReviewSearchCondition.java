@@ -0,0 +1,21 @@
+package com.hotel.booking.admin.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 리뷰 목록 필터 (모두 선택 사항, 날짜는 작성일 기준)
+ */
+@Data
+public class ReviewSearchCondition {
+    private Long roomId;
+    private Boolean isPublic;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fromDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate toDate;
+}
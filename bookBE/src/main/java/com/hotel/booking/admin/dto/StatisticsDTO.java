@@ -26,6 +26,7 @@ public class StatisticsDTO {
         private Integer totalBookings;
         private BigDecimal totalRevenue;
         private BigDecimal averageBookingAmount;
+        private Long roomNights; // 해당 월 숙박일 기준 점유 객실 수 (취소 제외)
     }
 
     @Data
@@ -38,6 +39,7 @@ public class StatisticsDTO {
         private BigDecimal totalRevenue;
         private BigDecimal averageBookingAmount;
         private BigDecimal averageMonthlyRevenue;
+        private Long roomNights; // 해당 연도 숙박일 기준 점유 객실 수 (취소 제외)
     }
 }
 
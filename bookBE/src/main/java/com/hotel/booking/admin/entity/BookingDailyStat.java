@@ -0,0 +1,51 @@
+package com.hotel.booking.admin.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일자 x 객실 타입별 예약 통계 롤업
+ * - created_*: 예약 생성일(createdAt) 기준 (월별 통계)
+ * - check_in_*: 체크인 날짜 기준 (연도별 통계)
+ * - room_nights: 해당 날짜에 점유된 객실 수 (취소 제외)
+ * - room_type: 현재 객실 타입 (객실 타입이 바뀌면 그 객실 예약분을 새 타입 행으로 옮김)
+ */
+@Entity
+@Table(name = "booking_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_booking_daily_stats_date_type", columnNames = {"stat_date", "room_type"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingDailyStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "room_type", nullable = false)
+    private String roomType;
+
+    @Column(name = "created_bookings", nullable = false)
+    private Long createdBookings;
+
+    @Column(name = "created_revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal createdRevenue;
+
+    @Column(name = "check_in_bookings", nullable = false)
+    private Long checkInBookings;
+
+    @Column(name = "check_in_revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal checkInRevenue;
+
+    @Column(name = "room_nights", nullable = false)
+    private Long roomNights;
+}
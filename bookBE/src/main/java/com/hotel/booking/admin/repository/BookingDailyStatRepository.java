@@ -0,0 +1,115 @@
+package com.hotel.booking.admin.repository;
+
+import com.hotel.booking.admin.entity.BookingDailyStat;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 롤업 테이블 갱신은 네이티브 쿼리이므로 영향 테이블(booking_daily_stats)을 명시
+ * (명시하지 않으면 Hibernate가 예약마다 2차 캐시 전체를 무효화함)
+ */
+@Repository
+public interface BookingDailyStatRepository extends JpaRepository<BookingDailyStat, Long> {
+    List<BookingDailyStat> findByStatDateBetween(LocalDate from, LocalDate to);
+
+    /**
+     * 예약 건수/금액 증분 반영 (행이 없으면 생성)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_daily_stats"))
+    @Query(value = "INSERT INTO booking_daily_stats " +
+           "(stat_date, room_type, created_bookings, created_revenue, check_in_bookings, check_in_revenue, room_nights) " +
+           "VALUES (:statDate, :roomType, :createdBookings, :createdRevenue, :checkInBookings, :checkInRevenue, 0) " +
+           "ON CONFLICT (stat_date, room_type) DO UPDATE SET " +
+           "created_bookings = booking_daily_stats.created_bookings + EXCLUDED.created_bookings, " +
+           "created_revenue = booking_daily_stats.created_revenue + EXCLUDED.created_revenue, " +
+           "check_in_bookings = booking_daily_stats.check_in_bookings + EXCLUDED.check_in_bookings, " +
+           "check_in_revenue = booking_daily_stats.check_in_revenue + EXCLUDED.check_in_revenue",
+           nativeQuery = true)
+    void addBookings(@Param("statDate") LocalDate statDate,
+                     @Param("roomType") String roomType,
+                     @Param("createdBookings") long createdBookings,
+                     @Param("createdRevenue") BigDecimal createdRevenue,
+                     @Param("checkInBookings") long checkInBookings,
+                     @Param("checkInRevenue") BigDecimal checkInRevenue);
+
+    /**
+     * [fromDate, toDate) 각 날짜의 점유 객실 수 증분 반영
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_daily_stats"))
+    @Query(value = "INSERT INTO booking_daily_stats " +
+           "(stat_date, room_type, created_bookings, created_revenue, check_in_bookings, check_in_revenue, room_nights) " +
+           "SELECT CAST(d AS date), :roomType, 0, 0, 0, 0, :delta " +
+           "FROM generate_series(CAST(:fromDate AS timestamp), CAST(:toDate AS timestamp) - INTERVAL '1 day', INTERVAL '1 day') d " +
+           "ON CONFLICT (stat_date, room_type) DO UPDATE SET " +
+           "room_nights = booking_daily_stats.room_nights + EXCLUDED.room_nights",
+           nativeQuery = true)
+    void addRoomNights(@Param("roomType") String roomType,
+                       @Param("fromDate") LocalDate fromDate,
+                       @Param("toDate") LocalDate toDate,
+                       @Param("delta") long delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_daily_stats"))
+    @Query(value = "DELETE FROM booking_daily_stats", nativeQuery = true)
+    void deleteAllRows();
+
+    /**
+     * bookings 테이블에서 예약 생성일 기준 집계 재계산 (백필용)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_daily_stats"))
+    @Query(value = "INSERT INTO booking_daily_stats " +
+           "(stat_date, room_type, created_bookings, created_revenue, check_in_bookings, check_in_revenue, room_nights) " +
+           "SELECT CAST(b.created_at AS date), r.type, COUNT(*), SUM(b.total_price), 0, 0, 0 " +
+           "FROM bookings b JOIN rooms r ON r.id = b.room_id " +
+           "WHERE b.created_at IS NOT NULL " +
+           "GROUP BY CAST(b.created_at AS date), r.type",
+           nativeQuery = true)
+    void rebuildCreatedStats();
+
+    /**
+     * bookings 테이블에서 체크인 날짜 기준 집계 재계산 (백필용)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_daily_stats"))
+    @Query(value = "INSERT INTO booking_daily_stats " +
+           "(stat_date, room_type, created_bookings, created_revenue, check_in_bookings, check_in_revenue, room_nights) " +
+           "SELECT b.check_in_date, r.type, 0, 0, COUNT(*), SUM(b.total_price), 0 " +
+           "FROM bookings b JOIN rooms r ON r.id = b.room_id " +
+           "GROUP BY b.check_in_date, r.type " +
+           "ON CONFLICT (stat_date, room_type) DO UPDATE SET " +
+           "check_in_bookings = EXCLUDED.check_in_bookings, " +
+           "check_in_revenue = EXCLUDED.check_in_revenue",
+           nativeQuery = true)
+    void rebuildCheckInStats();
+
+    /**
+     * bookings 테이블에서 날짜별 점유 객실 수 재계산 (백필용, 취소 제외)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "booking_daily_stats"))
+    @Query(value = "INSERT INTO booking_daily_stats " +
+           "(stat_date, room_type, created_bookings, created_revenue, check_in_bookings, check_in_revenue, room_nights) " +
+           "SELECT CAST(d AS date), r.type, 0, 0, 0, 0, COUNT(*) " +
+           "FROM bookings b JOIN rooms r ON r.id = b.room_id " +
+           "CROSS JOIN LATERAL generate_series(CAST(b.check_in_date AS timestamp), " +
+           "CAST(b.check_out_date AS timestamp) - INTERVAL '1 day', INTERVAL '1 day') d " +
+           "WHERE b.status <> 'CANCELLED' " +
+           "GROUP BY CAST(d AS date), r.type " +
+           "ON CONFLICT (stat_date, room_type) DO UPDATE SET " +
+           "room_nights = EXCLUDED.room_nights",
+           nativeQuery = true)
+    void rebuildRoomNights();
+}
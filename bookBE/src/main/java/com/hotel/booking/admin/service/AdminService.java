@@ -1,113 +1,102 @@
 package com.hotel.booking.admin.service;
 
 import com.hotel.booking.admin.dto.*;
+import com.hotel.booking.booking.dto.BookingAggregateDTO;
 import com.hotel.booking.booking.dto.BookingDTO;
+import com.hotel.booking.booking.dto.ReservationLockStatsDTO;
+import com.hotel.booking.booking.service.ReservationLockManager;
 import com.hotel.booking.booking.entity.Booking;
+import com.hotel.booking.booking.event.BookingStatusChanged;
 import com.hotel.booking.booking.repository.BookingRepository;
 import com.hotel.booking.payment.entity.Payment;
 import com.hotel.booking.payment.repository.PaymentRepository;
 import com.hotel.booking.review.dto.ReviewDTO;
 import com.hotel.booking.review.entity.Review;
+import com.hotel.booking.review.event.ReviewChanged;
+import com.hotel.booking.review.event.ReviewRatingsMoved;
 import com.hotel.booking.review.repository.ReviewRepository;
 import com.hotel.booking.room.dto.RoomDTO;
 import com.hotel.booking.room.entity.Room;
+import com.hotel.booking.room.event.RoomChanged;
+import com.hotel.booking.room.event.RoomStatusChanged;
 import com.hotel.booking.room.repository.RoomRepository;
+import com.hotel.booking.room.service.RoomCatalogCache;
+import com.hotel.booking.room.service.RoomJsonCache;
 import com.hotel.booking.notice.dto.NoticeDTO;
 import com.hotel.booking.notice.entity.Notice;
 import com.hotel.booking.notice.repository.NoticeRepository;
+import com.hotel.booking.notice.service.NoticeService;
+import com.hotel.booking.common.dto.CursorPage;
+import com.hotel.booking.common.event.DomainEventBus;
+import com.hotel.booking.user.dto.MailOutboxStatsDTO;
+import com.hotel.booking.user.service.MailOutboxDispatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import jakarta.persistence.PersistenceContext;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "hotel.service", description = "서비스 메서드 실행 시간 (class/method/exception 태그)")
 public class AdminService {
     private final BookingRepository bookingRepository;
     private final PaymentRepository paymentRepository;
     private final RoomRepository roomRepository;
     private final ReviewRepository reviewRepository;
     private final NoticeRepository noticeRepository;
+    private final NoticeService noticeService;
+    private final RoomCatalogCache catalogCache;
+    private final RoomJsonCache roomJsonCache;
+    private final BookingStatisticsService bookingStatisticsService;
+    private final DomainEventBus eventBus;
+    private final ReservationLockManager reservationLockManager;
+    private final MailOutboxDispatcher mailOutboxDispatcher;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 내보내기 중 영속성 컨텍스트를 비우는 간격 (스트림 fetch size와 같음)
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
 
     // 대시보드
+    @Transactional(readOnly = true)
     public DashboardDTO getDashboard(int year, int month) {
         LocalDate today = LocalDate.now();
         
         // 오늘 체크인: CONFIRMED + 오늘 체크인 (예약 기준만 사용, 객실 상태와 무관)
-        List<Booking> todayCheckIns = bookingRepository.findAll().stream()
-                .filter(b -> b.getCheckInDate().equals(today) && 
-                        b.getStatus() == Booking.BookingStatus.CONFIRMED)
-                .collect(Collectors.toList());
+        List<Booking> todayCheckIns = bookingRepository.findByStatusAndCheckInDate(
+                Booking.BookingStatus.CONFIRMED, today);
         
         // 오늘 체크아웃: CHECKED_IN + 오늘 체크아웃 (예약 기준만 사용, 객실 상태와 무관)
-        List<Booking> todayCheckOuts = bookingRepository.findAll().stream()
-                .filter(b -> b.getCheckOutDate().equals(today) && 
-                        b.getStatus() == Booking.BookingStatus.CHECKED_IN)
-                .collect(Collectors.toList());
-
-        // 월별 통계: 예약 생성일(createdAt) 기준으로 계산
-        List<Booking> monthlyBookings = bookingRepository.findAll().stream()
-                .filter(b -> {
-                    if (b.getCreatedAt() == null) return false;
-                    LocalDateTime createdAt = b.getCreatedAt();
-                    return createdAt.getYear() == year && createdAt.getMonthValue() == month;
-                })
-                .collect(Collectors.toList());
-
-        BigDecimal totalRevenue = monthlyBookings.stream()
-                .map(Booking::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal averageBookingAmount = monthlyBookings.isEmpty() ? BigDecimal.ZERO :
-                totalRevenue.divide(BigDecimal.valueOf(monthlyBookings.size()), 2, java.math.RoundingMode.HALF_UP);
-
-        long bookedCount = calculateBookedCount(today);
-        
-        List<Room> allRooms = roomRepository.findAll();
-        
-        // 사용 가능 객실: status = CLEAN (객실 기준만 사용, 예약과 무관)
-        long availableCount = allRooms.stream()
-                .filter(r -> r.getStatus() == Room.RoomStatus.CLEAN)
-                .count();
-        
-        // 청소 필요: status = DIRTY (객실 기준만 사용)
-        long cleaningNeededCount = allRooms.stream()
-                .filter(r -> r.getStatus() == Room.RoomStatus.DIRTY)
-                .count();
-        
-        // 보수 중: status = MAINTENANCE (객실 기준만 사용)
-        long maintenanceCount = allRooms.stream()
-                .filter(r -> r.getStatus() == Room.RoomStatus.MAINTENANCE)
-                .count();
-        
-        // 현재 사용 중인 객실: CHECKED_IN 상태의 예약이 있고 체크아웃 날짜가 아직 지나지 않은 객실
-        // (이 항목은 예약 기준이므로 유지)
-        long inUseCount = allRooms.stream()
-                .filter(r -> r.getBookings().stream()
-                        .anyMatch(b -> b.getStatus() == Booking.BookingStatus.CHECKED_IN &&
-                                !b.getCheckOutDate().isBefore(today)))
-                .count();
+        List<Booking> todayCheckOuts = bookingRepository.findByStatusAndCheckOutDate(
+                Booking.BookingStatus.CHECKED_IN, today);
 
         return DashboardDTO.builder()
                 .todayCheckIns(convertToBookingSummary(todayCheckIns))
                 .todayCheckOuts(convertToBookingSummary(todayCheckOuts))
-                .monthlyStats(DashboardDTO.MonthlyStatsDTO.builder()
-                        .totalBookings(monthlyBookings.size())
-                        .totalRevenue(totalRevenue)
-                        .averageBookingAmount(averageBookingAmount)
-                        .build())
-                .roomStatusSummary(DashboardDTO.RoomStatusSummaryDTO.builder()
-                        .booked(bookedCount)
-                        .available(availableCount)
-                        .cleaningNeeded(cleaningNeededCount)
-                        .maintenance(maintenanceCount)
-                        .inUse(inUseCount)
-                        .build())
+                .monthlyStats(calculateMonthlyStats(year, month))
+                .roomStatusSummary(calculateRoomStatusSummary(today))
                 .build();
     }
 
@@ -115,9 +104,7 @@ public class AdminService {
     public List<BookingDTO> getTodayCheckIns() {
         // 오늘 체크인: CONFIRMED + 오늘 체크인 (예약 기준만 사용, 객실 상태와 무관)
         LocalDate today = LocalDate.now();
-        return bookingRepository.findAll().stream()
-                .filter(b -> b.getCheckInDate().equals(today) && 
-                        b.getStatus() == Booking.BookingStatus.CONFIRMED)
+        return bookingRepository.findByStatusAndCheckInDate(Booking.BookingStatus.CONFIRMED, today).stream()
                 .map(this::convertToBookingDTO)
                 .collect(Collectors.toList());
     }
@@ -126,9 +113,7 @@ public class AdminService {
     public List<BookingDTO> getTodayCheckOuts() {
         // 오늘 체크아웃: CHECKED_IN + 오늘 체크아웃 (예약 기준만 사용, 객실 상태와 무관)
         LocalDate today = LocalDate.now();
-        return bookingRepository.findAll().stream()
-                .filter(b -> b.getCheckOutDate().equals(today) && 
-                        b.getStatus() == Booking.BookingStatus.CHECKED_IN)
+        return bookingRepository.findByStatusAndCheckOutDate(Booking.BookingStatus.CHECKED_IN, today).stream()
                 .map(this::convertToBookingDTO)
                 .collect(Collectors.toList());
     }
@@ -137,8 +122,7 @@ public class AdminService {
     public List<BookingDTO> getCurrentStays() {
         try {
             // 현재 투숙 중: CHECKED_IN (예약 기준만 사용, 객실 상태와 무관)
-            return bookingRepository.findAll().stream()
-                    .filter(b -> b.getStatus() == Booking.BookingStatus.CHECKED_IN)
+            return bookingRepository.findByStatusWithDetails(Booking.BookingStatus.CHECKED_IN).stream()
                     .map(this::convertToBookingDTO)
                     .collect(Collectors.toList());
         } catch (Exception e) {
@@ -146,146 +130,42 @@ public class AdminService {
         }
     }
 
+    @Transactional(readOnly = true)
     public DashboardDTO.MonthlyStatsDTO getMonthlyStats(int year, int month) {
-        // 월별 통계: 예약 생성일(createdAt) 기준으로 계산
-        List<Booking> monthlyBookings = bookingRepository.findAll().stream()
-                .filter(b -> {
-                    if (b.getCreatedAt() == null) return false;
-                    LocalDateTime createdAt = b.getCreatedAt();
-                    return createdAt.getYear() == year && createdAt.getMonthValue() == month;
-                })
-                .collect(Collectors.toList());
-
-        BigDecimal totalRevenue = monthlyBookings.stream()
-                .map(Booking::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return calculateMonthlyStats(year, month);
+    }
 
-        BigDecimal averageBookingAmount = monthlyBookings.isEmpty() ? BigDecimal.ZERO :
-                totalRevenue.divide(BigDecimal.valueOf(monthlyBookings.size()), 2, java.math.RoundingMode.HALF_UP);
+    public com.hotel.booking.admin.dto.StatisticsDTO getStatistics(int startYear, int endYear) {
+        return bookingStatisticsService.getStatistics(startYear, endYear);
+    }
 
-        return DashboardDTO.MonthlyStatsDTO.builder()
-                .totalBookings(monthlyBookings.size())
-                .totalRevenue(totalRevenue)
-                .averageBookingAmount(averageBookingAmount)
-                .build();
+    /**
+     * 객실/공지 2차 캐시 전체 제거 (공지 스냅샷, 객실 카탈로그 응답 캐시도 함께 갱신)
+     * 애플리케이션을 거친 수정은 Hibernate가 캐시를 갱신하므로 필요 없음
+     * DB를 직접 수정한 경우(마이그레이션 스크립트 등)에만 사용
+     */
+    public void evictReferenceCaches() {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Room.class);
+        cache.evictEntityData(Notice.class);
+        cache.evictQueryRegion("room-queries");
+        cache.evictQueryRegion("notice-queries");
+        noticeService.rebuild();
+        roomJsonCache.clear();
+        catalogCache.invalidate();
     }
 
-    @Transactional(readOnly = true)
-    public com.hotel.booking.admin.dto.StatisticsDTO getStatistics(int startYear, int endYear) {
-        List<Booking> allBookings = bookingRepository.findAll();
-        
-        // 월별 통계
-        List<com.hotel.booking.admin.dto.StatisticsDTO.MonthlyStatisticsDTO> monthlyStats = new java.util.ArrayList<>();
-        for (int year = startYear; year <= endYear; year++) {
-            final int finalYear = year;
-            for (int month = 1; month <= 12; month++) {
-                final int finalMonth = month;
-                // 월별 통계: 예약 생성일(createdAt) 기준으로 계산
-                List<Booking> monthlyBookings = allBookings.stream()
-                        .filter(b -> {
-                            if (b.getCreatedAt() == null) return false;
-                            LocalDateTime createdAt = b.getCreatedAt();
-                            return createdAt.getYear() == finalYear && createdAt.getMonthValue() == finalMonth;
-                        })
-                        .collect(Collectors.toList());
-                
-                if (!monthlyBookings.isEmpty()) {
-                    BigDecimal totalRevenue = monthlyBookings.stream()
-                            .map(Booking::getTotalPrice)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    
-                    BigDecimal averageBookingAmount = totalRevenue.divide(
-                            BigDecimal.valueOf(monthlyBookings.size()), 2, java.math.RoundingMode.HALF_UP);
-                    
-                    monthlyStats.add(com.hotel.booking.admin.dto.StatisticsDTO.MonthlyStatisticsDTO.builder()
-                            .year(finalYear)
-                            .month(finalMonth)
-                            .totalBookings(monthlyBookings.size())
-                            .totalRevenue(totalRevenue)
-                            .averageBookingAmount(averageBookingAmount)
-                            .build());
-                }
-            }
-        }
-        
-        // 년도별 통계
-        List<com.hotel.booking.admin.dto.StatisticsDTO.YearlyStatisticsDTO> yearlyStats = new java.util.ArrayList<>();
-        for (int year = startYear; year <= endYear; year++) {
-            final int finalYear = year;
-            List<Booking> yearlyBookings = allBookings.stream()
-                    .filter(b -> b.getCheckInDate().getYear() == finalYear)
-                    .collect(Collectors.toList());
-            
-            if (!yearlyBookings.isEmpty()) {
-                BigDecimal totalRevenue = yearlyBookings.stream()
-                        .map(Booking::getTotalPrice)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-                
-                BigDecimal averageBookingAmount = totalRevenue.divide(
-                        BigDecimal.valueOf(yearlyBookings.size()), 2, java.math.RoundingMode.HALF_UP);
-                
-                // 월별 평균 매출 계산
-                final int currentYear = finalYear;
-                long monthsWithBookings = monthlyStats.stream()
-                        .filter(ms -> ms.getYear() == currentYear)
-                        .count();
-                BigDecimal averageMonthlyRevenue = monthsWithBookings > 0 ?
-                        totalRevenue.divide(BigDecimal.valueOf(monthsWithBookings), 2, java.math.RoundingMode.HALF_UP) :
-                        BigDecimal.ZERO;
-                
-                yearlyStats.add(com.hotel.booking.admin.dto.StatisticsDTO.YearlyStatisticsDTO.builder()
-                        .year(finalYear)
-                        .totalBookings(yearlyBookings.size())
-                        .totalRevenue(totalRevenue)
-                        .averageBookingAmount(averageBookingAmount)
-                        .averageMonthlyRevenue(averageMonthlyRevenue)
-                        .build());
-            }
-        }
-        
-        return com.hotel.booking.admin.dto.StatisticsDTO.builder()
-                .monthlyStatistics(monthlyStats)
-                .yearlyStatistics(yearlyStats)
-                .build();
+    /**
+     * 통계 롤업 재계산 요청 (백필/복구용, 이벤트 디스패처가 커밋 게이트를 닫고 실행하므로 그동안 예약 커밋이 멈춤)
+     */
+    public void rebuildStatistics() {
+        bookingStatisticsService.requestRebuild();
     }
 
+    @Transactional(readOnly = true)
     public DashboardDTO.RoomStatusSummaryDTO getRoomStatusSummary() {
         try {
-            LocalDate today = LocalDate.now();
-            long bookedCount = calculateBookedCount(today);
-            
-            List<Room> allRooms = roomRepository.findAll();
-            
-            // 사용 가능 객실: status = CLEAN (객실 기준만 사용, 예약과 무관)
-            long availableCount = allRooms.stream()
-                    .filter(r -> r.getStatus() == Room.RoomStatus.CLEAN)
-                    .count();
-            
-            // 청소 필요: status = DIRTY (객실 기준만 사용)
-            long cleaningNeededCount = allRooms.stream()
-                    .filter(r -> r.getStatus() == Room.RoomStatus.DIRTY)
-                    .count();
-            
-            // 보수 중: status = MAINTENANCE (객실 기준만 사용)
-            long maintenanceCount = allRooms.stream()
-                    .filter(r -> r.getStatus() == Room.RoomStatus.MAINTENANCE)
-                    .count();
-            
-            // 현재 사용 중인 객실: CHECKED_IN 상태의 예약이 있고 체크아웃 날짜가 아직 지나지 않은 객실
-            // (이 항목은 예약 기준이므로 유지)
-            long inUseCount = allRooms.stream()
-                    .filter(r -> r.getBookings().stream()
-                            .anyMatch(b -> b.getStatus() == Booking.BookingStatus.CHECKED_IN &&
-                                    !b.getCheckOutDate().isBefore(today)))
-                    .count();
-
-            return DashboardDTO.RoomStatusSummaryDTO.builder()
-                    .booked(bookedCount)
-                    .available(availableCount)
-                    .cleaningNeeded(cleaningNeededCount)
-                    .maintenance(maintenanceCount)
-                    .inUse(inUseCount)
-                    .build();
+            return calculateRoomStatusSummary(LocalDate.now());
         } catch (Exception e) {
             throw new RuntimeException("객실 상태 조회 실패: " + e.getMessage() + 
                     ". 데이터베이스 마이그레이션이 필요할 수 있습니다. " +
@@ -321,13 +201,23 @@ public class AdminService {
                 .bedCount(roomDTO.getBedCount())
                 .build();
         room = roomRepository.save(room);
+        eventBus.publish(new RoomChanged(room.getId()));
         return convertToRoomDTO(room);
     }
 
     @Transactional
     public RoomDTO updateRoom(Long id, RoomDTO roomDTO) {
-        Room room = roomRepository.findById(id)
+        // 객실 행 잠금: 타입 변경과 이 객실 예약 생성이 겹치지 않음 (예약 이벤트의 객실 타입이 통계 이동 기준과 일치)
+        Room room = roomRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("객실을 찾을 수 없습니다"));
+        // 타입이 바뀌면 해당 객실 공개 리뷰 집계와 예약 통계를 새 타입으로 옮김 (각 증분과 같은 경로로 커밋 후 반영)
+        if (!room.getType().equals(roomDTO.getType())) {
+            String previousType = room.getType();
+            reviewRepository.summarizeRatingsByRoomId(id).ifPresent(rating -> eventBus.publish(
+                    new ReviewRatingsMoved(id, previousType, roomDTO.getType(),
+                            rating.getReviewCount(), rating.getRatingSum())));
+            bookingStatisticsService.moveRoomType(id, previousType, roomDTO.getType());
+        }
         room.setName(roomDTO.getName());
         room.setDescription(roomDTO.getDescription());
         room.setType(roomDTO.getType());
@@ -340,6 +230,8 @@ public class AdminService {
             room.setStatus(roomDTO.getStatus());
         }
         room = roomRepository.save(room);
+        roomJsonCache.evict(id);
+        eventBus.publish(new RoomChanged(id));
         return convertToRoomDTO(room);
     }
 
@@ -349,6 +241,7 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("객실을 찾을 수 없습니다"));
         room.setAvailable(false);
         roomRepository.save(room);
+        eventBus.publish(new RoomChanged(id));
     }
 
     @Transactional
@@ -357,49 +250,116 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("객실을 찾을 수 없습니다"));
         room.setAvailable(true);
         roomRepository.save(room);
+        eventBus.publish(new RoomChanged(id));
     }
 
     @Transactional
     public void updateRoomStatus(Long id, Room.RoomStatus status) {
         Room room = roomRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("객실을 찾을 수 없습니다"));
+        Room.RoomStatus previousStatus = room.getStatus();
         room.setStatus(status);
         room.setStatusUpdatedAt(java.time.LocalDateTime.now());  // 상태 변경 시간 기록 (자동 청소 완료용)
         roomRepository.save(room);
+        eventBus.publish(new RoomStatusChanged(id, previousStatus, status));
         
         // 청소 완료 시 CLEAN으로 변경하면 객실은 예약 가능 상태가 됨
         // 예약 상태는 CHECKED_OUT으로 유지 (리뷰 가능 여부는 checkOutDate로 판단)
     }
 
     // 예약 관리
+    @Transactional(readOnly = true)
     public List<BookingDTO> getAllBookings() {
-        return bookingRepository.findAll().stream()
+        return bookingRepository.findAllWithDetails().stream()
                 .map(this::convertToBookingDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<BookingDTO> getBookingsPage(BookingSearchCondition condition, Long cursor, int size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        List<Booking> rows = bookingRepository.findPageForAdmin(cursor, condition.getStatus(), condition.getRoomId(),
+                condition.getFromDate(), condition.getToDate(), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Booking::getId, this::convertToBookingDTO);
+    }
+
+    /**
+     * 예약 전체를 NDJSON(한 줄에 JSON 1건)으로 내보내기
+     * 행 단위로 읽고 쓰며 영속성 컨텍스트를 주기적으로 비우므로 메모리 사용량이 테이블 크기와 무관
+     */
+    @Transactional(readOnly = true)
+    public void exportBookings(BookingSearchCondition condition, OutputStream out) {
+        try (Stream<Booking> bookings = bookingRepository.streamForAdmin(condition.getStatus(),
+                condition.getRoomId(), condition.getFromDate(), condition.getToDate())) {
+            writeNdjson(bookings, this::convertToBookingDTO, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public BookingDTO getBookingById(Long id) {
-        Booking booking = bookingRepository.findById(id)
+        Booking booking = bookingRepository.findByIdWithDetails(id)
                 .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다"));
         return convertToBookingDTO(booking);
     }
 
     @Transactional
     public void updateBookingStatus(Long id, Booking.BookingStatus status) {
-        Booking booking = bookingRepository.findById(id)
+        // 예약 생성/사용자 취소와 같은 순서로 잠금: 객실 스트라이프 → 객실 행 → 예약 행
+        // 객실 행은 취소가 아닌 상태로 바꿀 때만 (취소 복구면 같은 객실의 예약 생성과 직렬화해야 함)
+        // 잠금 후 읽은 상태로 판단하므로 동시 취소와 엇갈려 다른 상태의 이벤트를 발행하지 않음
+        Long roomId = bookingRepository.findRoomIdById(id)
+                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다"));
+        reservationLockManager.lockRoomUntilTransactionEnds(roomId);
+        if (status != Booking.BookingStatus.CANCELLED) {
+            roomRepository.findByIdForUpdate(roomId)
+                    .orElseThrow(() -> new RuntimeException("객실을 찾을 수 없습니다"));
+        }
+        Booking booking = bookingRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다"));
+        Booking.BookingStatus previousStatus = booking.getStatus();
+
+        // 단체 예약은 결제가 단체 예약에 1건이므로 객실별 취소/취소 복구 불가 (단체 예약 취소로 전체 취소 + 환불)
+        // 체크인/체크아웃 등 취소와 무관한 상태 변경은 객실별로 가능
+        if (booking.getGroup() != null
+                && (status == Booking.BookingStatus.CANCELLED || previousStatus == Booking.BookingStatus.CANCELLED)
+                && status != previousStatus) {
+            throw new RuntimeException("단체 예약에 포함된 예약은 단체 예약 취소로만 취소할 수 있습니다");
+        }
+
+        // 취소 복구: 취소된 사이 같은 날짜에 들어온 예약이 있으면 이중 예약이 되므로 거부
+        if (previousStatus == Booking.BookingStatus.CANCELLED && status != Booking.BookingStatus.CANCELLED
+                && bookingRepository.existsActiveOverlap(booking.getRoom(),
+                        booking.getCheckInDate(), booking.getCheckOutDate())) {
+            throw new RuntimeException("선택한 날짜에 이미 다른 예약이 있어 취소를 되돌릴 수 없습니다");
+        }
         booking.setStatus(status);
         bookingRepository.save(booking);
+
+        // 커밋 후 가용성 인덱스/통계 롤업(취소 여부가 바뀐 경우), 객실 목록 캐시, 대시보드에 반영
+        eventBus.publish(new BookingStatusChanged(booking.getId(), booking.getRoom().getId(),
+                booking.getRoom().getType(), booking.getCheckInDate(), booking.getCheckOutDate(),
+                previousStatus, status));
         
         // 체크아웃 처리 시 해당 객실을 청소 필요 상태로 변경
         if (status == Booking.BookingStatus.CHECKED_OUT) {
             Room room = booking.getRoom();
+            Room.RoomStatus previousRoomStatus = room.getStatus();
             room.setStatus(Room.RoomStatus.DIRTY);
             room.setStatusUpdatedAt(java.time.LocalDateTime.now());  // 상태 변경 시간 기록 (자동 청소 완료용)
             roomRepository.save(room);
+            eventBus.publish(new RoomStatusChanged(room.getId(), previousRoomStatus, Room.RoomStatus.DIRTY));
         }
     }
 
+    public ReservationLockStatsDTO getReservationLockStats() {
+        return reservationLockManager.getStats();
+    }
+
+    // 메일 아웃박스 상태 (대기/실패 건수)
+    public MailOutboxStatsDTO getMailOutboxStats() {
+        return mailOutboxDispatcher.getStats();
+    }
+
     // 리뷰 관리
     public List<ReviewDTO> getAllReviews() {
         return reviewRepository.findAll().stream()
@@ -407,6 +367,22 @@ public class AdminService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewDTO> getReviewsPage(ReviewSearchCondition condition, Long cursor, int size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        List<Review> rows = reviewRepository.findPageForAdmin(cursor, condition.getRoomId(), condition.getIsPublic(),
+                startOf(condition.getFromDate()), endOf(condition.getToDate()), Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Review::getId, this::convertToReviewDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportReviews(ReviewSearchCondition condition, OutputStream out) {
+        try (Stream<Review> reviews = reviewRepository.streamForAdmin(condition.getRoomId(), condition.getIsPublic(),
+                startOf(condition.getFromDate()), endOf(condition.getToDate()))) {
+            writeNdjson(reviews, this::convertToReviewDTO, out);
+        }
+    }
+
     public ReviewDTO getReviewById(Long id) {
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("리뷰를 찾을 수 없습니다"));
@@ -415,10 +391,14 @@ public class AdminService {
 
     @Transactional
     public void toggleReviewVisibility(Long id) {
-        Review review = reviewRepository.findById(id)
+        Review review = reviewRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new RuntimeException("리뷰를 찾을 수 없습니다"));
         review.setIsPublic(!review.getIsPublic());
         reviewRepository.save(review);
+        String roomType = review.getRoom().getType();
+        eventBus.publish(review.getIsPublic()
+                ? new ReviewChanged(id, roomType, null, review.getRating())
+                : new ReviewChanged(id, roomType, review.getRating(), null));
     }
 
     @Transactional
@@ -455,6 +435,13 @@ public class AdminService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<NoticeDTO> getNoticesPage(Long cursor, int size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        List<Notice> rows = noticeRepository.findPageForAdmin(cursor, Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, Notice::getId, this::convertToNoticeDTO);
+    }
+
     @Transactional
     public NoticeDTO createNotice(NoticeDTO noticeDTO) {
         Notice notice = Notice.builder()
@@ -467,6 +454,7 @@ public class AdminService {
                 .endDate(noticeDTO.getEndDate())
                 .build();
         notice = noticeRepository.save(notice);
+        noticeService.refreshAfterCommit();
         return convertToNoticeDTO(notice);
     }
 
@@ -486,12 +474,14 @@ public class AdminService {
         notice.setStartDate(noticeDTO.getStartDate());
         notice.setEndDate(noticeDTO.getEndDate());
         notice = noticeRepository.save(notice);
+        noticeService.refreshAfterCommit();
         return convertToNoticeDTO(notice);
     }
 
     @Transactional
     public void deleteNotice(Long id) {
         noticeRepository.deleteById(id);
+        noticeService.refreshAfterCommit();
     }
 
     @Transactional
@@ -500,15 +490,76 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("공지사항을 찾을 수 없습니다"));
         notice.setIsPublic(!notice.getIsPublic());
         noticeRepository.save(notice);
+        noticeService.refreshAfterCommit();
     }
 
     // 공통 계산 메서드
-    private long calculateBookedCount(LocalDate today) {
+    private DashboardDTO.MonthlyStatsDTO calculateMonthlyStats(int year, int month) {
+        // 월별 통계: 예약 생성일(createdAt) 기준으로 계산 (DB 집계)
+        LocalDateTime from = LocalDate.of(year, month, 1).atStartOfDay();
+        BookingAggregateDTO aggregate = bookingRepository.aggregateByCreatedAtBetween(from, from.plusMonths(1));
+
+        long totalBookings = aggregate.getBookingCount();
+        BigDecimal totalRevenue = aggregate.getTotalRevenue();
+        BigDecimal averageBookingAmount = totalBookings == 0 ? BigDecimal.ZERO :
+                totalRevenue.divide(BigDecimal.valueOf(totalBookings), 2, java.math.RoundingMode.HALF_UP);
+
+        return DashboardDTO.MonthlyStatsDTO.builder()
+                .totalBookings((int) totalBookings)
+                .totalRevenue(totalRevenue)
+                .averageBookingAmount(averageBookingAmount)
+                .build();
+    }
+
+    private DashboardDTO.RoomStatusSummaryDTO calculateRoomStatusSummary(LocalDate today) {
         // 예약(booked): CONFIRMED + 미래/오늘 체크인 (예약 기준만 사용, 객실 상태와 무관)
-        return bookingRepository.findAll().stream()
-                .filter(b -> b.getStatus() == Booking.BookingStatus.CONFIRMED &&
-                        !b.getCheckInDate().isBefore(today))
-                .count();
+        long bookedCount = bookingRepository.countByStatusAndCheckInDateGreaterThanEqual(
+                Booking.BookingStatus.CONFIRMED, today);
+
+        // 사용 가능(CLEAN) / 청소 필요(DIRTY) / 보수 중(MAINTENANCE): 객실 기준만 사용, 예약과 무관
+        Map<Room.RoomStatus, Long> statusCounts = new EnumMap<>(Room.RoomStatus.class);
+        roomRepository.countByStatus().forEach(c -> statusCounts.put(c.getStatus(), c.getCount()));
+
+        // 현재 사용 중인 객실: CHECKED_IN 상태의 예약이 있고 체크아웃 날짜가 아직 지나지 않은 객실
+        // (이 항목은 예약 기준이므로 유지)
+        long inUseCount = bookingRepository.countRoomsByStatusAndCheckOutDateFrom(
+                Booking.BookingStatus.CHECKED_IN, today);
+
+        return DashboardDTO.RoomStatusSummaryDTO.builder()
+                .booked(bookedCount)
+                .available(statusCounts.getOrDefault(Room.RoomStatus.CLEAN, 0L))
+                .cleaningNeeded(statusCounts.getOrDefault(Room.RoomStatus.DIRTY, 0L))
+                .maintenance(statusCounts.getOrDefault(Room.RoomStatus.MAINTENANCE, 0L))
+                .inUse(inUseCount)
+                .build();
+    }
+
+    private LocalDateTime startOf(LocalDate date) {
+        return date != null ? date.atStartOfDay() : null;
+    }
+
+    private LocalDateTime endOf(LocalDate date) {
+        return date != null ? date.plusDays(1).atStartOfDay() : null;
+    }
+
+    /**
+     * 행마다 JSON 한 줄 쓰기, EXPORT_CLEAR_INTERVAL행마다 영속성 컨텍스트 비우기
+     * (detach는 루트 엔티티만 분리하고 fetch join된 객실/사용자/결제는 남으므로 clear 사용)
+     */
+    private <E, T> void writeNdjson(Stream<E> rows, Function<E, T> mapper, OutputStream out) {
+        Iterator<E> iterator = rows.iterator();
+        long written = 0;
+        while (iterator.hasNext()) {
+            try {
+                out.write(objectMapper.writeValueAsBytes(mapper.apply(iterator.next())));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (++written % EXPORT_CLEAR_INTERVAL == 0) {
+                entityManager.clear(); // 읽기 전용 트랜잭션이라 flush할 변경 없음
+            }
+        }
     }
 
     // 변환 메서드들
@@ -526,12 +577,17 @@ public class AdminService {
                 .status(booking.getStatus())
                 .specialRequests(booking.getSpecialRequests())
                 .createdAt(booking.getCreatedAt())
+                .groupId(booking.getGroup() != null ? booking.getGroup().getId() : null)
                 .build();
         
-        if (booking.getPayment() != null) {
-            Payment payment = booking.getPayment();
+        // 단체 예약에 속한 예약은 객실별 결제 없이 단체 예약 결제 1건 (조회 쿼리에서 함께 로드됨)
+        Payment payment = booking.getPayment() != null ? booking.getPayment()
+                : booking.getGroup() != null ? booking.getGroup().getPayment() : null;
+        if (payment != null) {
             dto.setPayment(com.hotel.booking.payment.dto.PaymentDTO.builder()
                     .id(payment.getId())
+                    .bookingId(payment.getBooking() != null ? payment.getBooking().getId() : null)
+                    .groupId(payment.getGroup() != null ? payment.getGroup().getId() : null)
                     .amount(payment.getAmount())
                     .method(payment.getMethod())
                     .status(payment.getStatus())
@@ -0,0 +1,282 @@
+package com.hotel.booking.admin.service;
+
+import com.hotel.booking.admin.dto.StatisticsDTO;
+import com.hotel.booking.admin.entity.BookingDailyStat;
+import com.hotel.booking.admin.repository.BookingDailyStatRepository;
+import com.hotel.booking.booking.dto.BookingStatRowDTO;
+import com.hotel.booking.booking.entity.Booking;
+import com.hotel.booking.booking.event.BookingCancelled;
+import com.hotel.booking.booking.event.BookingCreated;
+import com.hotel.booking.booking.event.BookingStatsMoved;
+import com.hotel.booking.booking.event.BookingStatusChanged;
+import com.hotel.booking.booking.repository.BookingRepository;
+import com.hotel.booking.common.event.DomainEvent;
+import com.hotel.booking.common.event.DomainEventBus;
+import com.hotel.booking.common.event.DomainEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 예약 통계 롤업(booking_daily_stats) 관리
+ * - 예약 생성/취소/상태 변경 이벤트로 커밋 후 증분 반영 (DomainEventBus 디스패처 스레드)
+ * - 객실 타입은 현재 객실 타입 기준: 타입을 바꾸면 그 객실 예약분을 새 타입 행으로 옮기는 증분(BookingStatsMoved) 발행
+ * - 전체 재계산은 관리자 요청(백필/복구)과 이벤트 큐가 넘친 경우에만 (재계산 동안 이벤트를 발행하는 커밋이 멈춤)
+ * - 통계 조회는 롤업 행(최대 366 x 연도 수 x 객실 타입 수)만 읽음
+ */
+@Service
+@Order(DomainEventListener.VIEW_ORDER)
+@Slf4j
+public class BookingStatisticsService implements DomainEventListener {
+    private final BookingDailyStatRepository dailyStatRepository;
+    private final BookingRepository bookingRepository;
+    private final DomainEventBus eventBus;
+
+    // DomainEventBus가 구독자 목록으로 이 서비스를 주입받으므로 지연 주입
+    public BookingStatisticsService(BookingDailyStatRepository dailyStatRepository,
+                                    BookingRepository bookingRepository,
+                                    @Lazy DomainEventBus eventBus) {
+        this.dailyStatRepository = dailyStatRepository;
+        this.bookingRepository = bookingRepository;
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * 예약 생성/취소/취소 복구/객실 타입 이동 반영 (디스패처 스레드, 이벤트 묶음당 트랜잭션 1개)
+     * - 생성: 생성일 건수/매출, 체크인일 건수/매출, 숙박 기간 점유 객실 수
+     * - 취소/취소 복구: 예약 건수/매출은 기존 통계와 같이 취소 예약도 포함하므로 점유 객실 수만 조정
+     * - 객실 타입 이동: 옮긴 예약을 옛 타입에서 빼고 새 타입에 더함
+     * 같은 (날짜, 객실 타입)과 같은 (객실 타입, 숙박 기간)끼리 합쳐 upsert 수를 이벤트 수가 아닌 조합 수로 줄임
+     * 예약 트랜잭션 밖에서 한 스레드가 반영하므로 같은 날짜/타입 예약끼리 통계 행 잠금으로 줄 서지 않음
+     */
+    @Override
+    @Transactional
+    public void onEvents(List<DomainEvent> events) {
+        Map<DailyKey, DailyDelta> daily = new TreeMap<>(
+                Comparator.comparing(DailyKey::date).thenComparing(DailyKey::roomType));
+        Map<StayKey, Long> roomNights = new TreeMap<>(Comparator.comparing(StayKey::roomType)
+                .thenComparing(StayKey::checkInDate)
+                .thenComparing(StayKey::checkOutDate));
+
+        for (DomainEvent event : events) {
+            if (event instanceof BookingCreated created) {
+                addBooking(daily, roomNights, created.roomType(), created.createdDate(),
+                        created.checkInDate(), created.checkOutDate(), created.totalPrice(), true, 1);
+            } else if (event instanceof BookingCancelled cancelled) {
+                roomNights.merge(new StayKey(cancelled.roomType(), cancelled.checkInDate(), cancelled.checkOutDate()),
+                        -1L, Long::sum);
+            } else if (event instanceof BookingStatusChanged changed && (changed.cancelled() || changed.restored())) {
+                roomNights.merge(new StayKey(changed.roomType(), changed.checkInDate(), changed.checkOutDate()),
+                        changed.cancelled() ? -1L : 1L, Long::sum);
+            } else if (event instanceof BookingStatsMoved moved) {
+                for (BookingStatRowDTO booking : moved.bookings()) {
+                    LocalDate createdDate = booking.getCreatedAt() != null ? booking.getCreatedAt().toLocalDate() : null;
+                    boolean active = booking.getStatus() != Booking.BookingStatus.CANCELLED;
+                    addBooking(daily, roomNights, moved.previousRoomType(), createdDate,
+                            booking.getCheckInDate(), booking.getCheckOutDate(), booking.getTotalPrice(), active, -1);
+                    addBooking(daily, roomNights, moved.roomType(), createdDate,
+                            booking.getCheckInDate(), booking.getCheckOutDate(), booking.getTotalPrice(), active, 1);
+                }
+            }
+        }
+
+        daily.forEach((key, delta) -> dailyStatRepository.addBookings(key.date(), key.roomType(),
+                delta.createdBookings, delta.createdRevenue, delta.checkInBookings, delta.checkInRevenue));
+        roomNights.forEach((key, count) -> {
+            if (count != 0) {
+                dailyStatRepository.addRoomNights(key.roomType(), key.checkInDate(), key.checkOutDate(), count);
+            }
+        });
+    }
+
+    /**
+     * 객실 타입 변경 트랜잭션 안에서 호출: 그 객실 예약분을 새 타입 행으로 옮기는 이벤트 발행 (커밋 후 디스패처가 반영)
+     * 호출 전에 객실 행을 잠가 두어야 함 (새 예약이 끼어들지 않음), 여기서 취소되지 않은 예약 행을 잠가 취소/복구와 겹치지 않음
+     * → 여기서 읽은 예약의 생성/취소 이벤트는 옛 타입으로, 이후 이벤트는 새 타입으로 발행되므로
+     *   전체 재계산이나 커밋 게이트 없이 증분끼리 순서와 무관하게 합이 맞음
+     */
+    @Transactional
+    public void moveRoomType(Long roomId, String previousType, String type) {
+        bookingRepository.lockActiveIdsByRoomId(roomId);
+        List<BookingStatRowDTO> bookings = bookingRepository.findStatRowsByRoomId(roomId);
+        if (!bookings.isEmpty()) {
+            eventBus.publish(new BookingStatsMoved(roomId, previousType, type, bookings));
+        }
+    }
+
+    /**
+     * bookings 테이블 기준으로 롤업 전체 재계산
+     * 예약이 들어오는 중에는 requestRebuild()를 사용 (직접 호출하면 재계산과 증분이 겹칠 수 있음)
+     */
+    @Transactional
+    public void rebuild() {
+        dailyStatRepository.deleteAllRows();
+        dailyStatRepository.rebuildCreatedStats();
+        dailyStatRepository.rebuildCheckInStats();
+        dailyStatRepository.rebuildRoomNights();
+        log.info("예약 통계 롤업 재계산 완료");
+    }
+
+    /**
+     * 재계산 요청 (관리자 백필/복구용): 이벤트 디스패처가 커밋 게이트를 닫고 resync()로 실행
+     * 재계산하는 동안 이벤트를 발행하는 커밋이 멈추므로 주기 작업이나 시작 시에는 호출하지 않음
+     */
+    public void requestRebuild() {
+        eventBus.requestResync();
+    }
+
+    /**
+     * 이벤트 큐가 넘쳐 증분이 빠졌거나 재계산 요청이 있으면 bookings 테이블 기준으로 다시 계산
+     */
+    @Override
+    @Transactional
+    public void resync() {
+        rebuild();
+    }
+
+    /**
+     * 롤업이 비어 있는데 예약이 있으면 시작 시 알림 (백필은 관리자 재계산으로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void checkBackfill() {
+        if (dailyStatRepository.count() == 0 && bookingRepository.count() > 0) {
+            log.warn("예약 통계 롤업이 비어 있습니다. POST /api/admin/statistics/rebuild로 백필하세요");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public StatisticsDTO getStatistics(int startYear, int endYear) {
+        List<BookingDailyStat> rows = dailyStatRepository.findByStatDateBetween(
+                LocalDate.of(startYear, 1, 1), LocalDate.of(endYear, 12, 31));
+
+        // 월별(예약 생성일 기준) / 연도별(체크인 날짜 기준) 합산, 점유 객실 수는 숙박 날짜 기준
+        Map<Integer, Totals> monthlyTotals = new TreeMap<>();
+        Map<Integer, Totals> yearlyTotals = new TreeMap<>();
+        Map<Integer, Long> monthlyRoomNights = new TreeMap<>();
+        Map<Integer, Long> yearlyRoomNights = new TreeMap<>();
+        for (BookingDailyStat row : rows) {
+            int year = row.getStatDate().getYear();
+            int month = row.getStatDate().getMonthValue();
+            monthlyTotals.computeIfAbsent(year * 100 + month, k -> new Totals())
+                    .add(row.getCreatedBookings(), row.getCreatedRevenue());
+            yearlyTotals.computeIfAbsent(year, k -> new Totals())
+                    .add(row.getCheckInBookings(), row.getCheckInRevenue());
+            monthlyRoomNights.merge(year * 100 + month, row.getRoomNights(), Long::sum);
+            yearlyRoomNights.merge(year, row.getRoomNights(), Long::sum);
+        }
+
+        // 월별 통계
+        List<StatisticsDTO.MonthlyStatisticsDTO> monthlyStats = new ArrayList<>();
+        Map<Integer, Integer> monthsWithBookings = new TreeMap<>();
+        monthlyTotals.forEach((key, totals) -> {
+            if (totals.bookings == 0) {
+                return;
+            }
+            int year = key / 100;
+            monthsWithBookings.merge(year, 1, Integer::sum);
+            monthlyStats.add(StatisticsDTO.MonthlyStatisticsDTO.builder()
+                    .year(year)
+                    .month(key % 100)
+                    .totalBookings((int) totals.bookings)
+                    .totalRevenue(totals.revenue)
+                    .averageBookingAmount(totals.average())
+                    .roomNights(monthlyRoomNights.getOrDefault(key, 0L))
+                    .build());
+        });
+
+        // 년도별 통계
+        List<StatisticsDTO.YearlyStatisticsDTO> yearlyStats = new ArrayList<>();
+        yearlyTotals.forEach((year, totals) -> {
+            if (totals.bookings == 0) {
+                return;
+            }
+            // 월별 평균 매출 계산
+            int months = monthsWithBookings.getOrDefault(year, 0);
+            BigDecimal averageMonthlyRevenue = months > 0 ?
+                    totals.revenue.divide(BigDecimal.valueOf(months), 2, RoundingMode.HALF_UP) :
+                    BigDecimal.ZERO;
+
+            yearlyStats.add(StatisticsDTO.YearlyStatisticsDTO.builder()
+                    .year(year)
+                    .totalBookings((int) totals.bookings)
+                    .totalRevenue(totals.revenue)
+                    .averageBookingAmount(totals.average())
+                    .averageMonthlyRevenue(averageMonthlyRevenue)
+                    .roomNights(yearlyRoomNights.getOrDefault(year, 0L))
+                    .build());
+        });
+
+        return StatisticsDTO.builder()
+                .monthlyStatistics(monthlyStats)
+                .yearlyStatistics(yearlyStats)
+                .build();
+    }
+
+    /**
+     * 예약 한 건을 sign(1: 더함, -1: 뺌)만큼 반영 (생성일이 없는 예전 예약은 생성일 집계 제외, 취소 예약은 점유 제외)
+     */
+    private static void addBooking(Map<DailyKey, DailyDelta> daily, Map<StayKey, Long> roomNights, String roomType,
+                                   LocalDate createdDate, LocalDate checkInDate, LocalDate checkOutDate,
+                                   BigDecimal totalPrice, boolean active, int sign) {
+        if (createdDate != null) {
+            daily.computeIfAbsent(new DailyKey(createdDate, roomType), key -> new DailyDelta())
+                    .addCreated(sign, totalPrice);
+        }
+        daily.computeIfAbsent(new DailyKey(checkInDate, roomType), key -> new DailyDelta())
+                .addCheckIn(sign, totalPrice);
+        if (active) {
+            roomNights.merge(new StayKey(roomType, checkInDate, checkOutDate), (long) sign, Long::sum);
+        }
+    }
+
+    private record DailyKey(LocalDate date, String roomType) {
+    }
+
+    private record StayKey(String roomType, LocalDate checkInDate, LocalDate checkOutDate) {
+    }
+
+    private static class DailyDelta {
+        private long createdBookings;
+        private BigDecimal createdRevenue = BigDecimal.ZERO;
+        private long checkInBookings;
+        private BigDecimal checkInRevenue = BigDecimal.ZERO;
+
+        void addCreated(int sign, BigDecimal amount) {
+            createdBookings += sign;
+            createdRevenue = createdRevenue.add(sign < 0 ? amount.negate() : amount);
+        }
+
+        void addCheckIn(int sign, BigDecimal amount) {
+            checkInBookings += sign;
+            checkInRevenue = checkInRevenue.add(sign < 0 ? amount.negate() : amount);
+        }
+    }
+
+    private static class Totals {
+        private long bookings;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        void add(long count, BigDecimal amount) {
+            bookings += count;
+            revenue = revenue.add(amount);
+        }
+
+        BigDecimal average() {
+            return revenue.divide(BigDecimal.valueOf(bookings), 2, RoundingMode.HALF_UP);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.hotel.booking.admin.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.booking.admin.dto.DashboardDTO;
+import com.hotel.booking.admin.dto.DashboardStreamDTO;
+import com.hotel.booking.booking.event.BookingCancelled;
+import com.hotel.booking.booking.event.BookingCreated;
+import com.hotel.booking.booking.event.BookingStatusChanged;
+import com.hotel.booking.common.event.DomainEvent;
+import com.hotel.booking.common.event.DomainEventListener;
+import com.hotel.booking.room.event.RoomChanged;
+import com.hotel.booking.room.event.RoomStatusChanged;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관리자 대시보드 실시간 스트림 (SSE)
+ * - 대시보드 상태 하나를 메모리에 두고 모든 연결에 공유 (연결 수와 무관하게 재계산 1회)
+ * - 예약 생성/취소/상태 변경, 객실 변경 도메인 이벤트로 dirty 표시 → 주기적으로 한 번 재계산
+ * - 재계산 결과에서 바뀐 항목만 delta 이벤트로 전송, 새 연결에는 snapshot 이벤트로 전체 전송
+ * - 날짜가 바뀌면(오늘 체크인/체크아웃 기준일) 변경이 없어도 재계산
+ * - 전송은 재계산 잠금 밖에서 연결별 잠금으로 (느린 연결이 재계산/새 연결을 막지 않음)
+ */
+@Service
+@Order(DomainEventListener.VIEW_ORDER)
+@Slf4j
+public class DashboardStreamService implements DomainEventListener {
+    private final AdminService adminService;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    // 재계산은 DB 조회를 포함하므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 고정 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder recomputations = new LongAdder();
+
+    private volatile DashboardStreamDTO state;
+    private long version = 0;
+
+    // AdminService → DomainEventBus → 이 서비스 순으로 의존하므로 지연 주입
+    public DashboardStreamService(@Lazy AdminService adminService, ObjectMapper objectMapper,
+                                  @Value("${admin.dashboard.stream.timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.adminService = adminService;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    /**
+     * 새 연결 등록 후 현재 상태 전체 전송
+     * 재계산과 같은 잠금 안에서 snapshot 기준 상태를 정하고 등록하므로 snapshot과 이후 delta 사이에 빠지는 변경이 없음
+     * 기존 연결이 있으면 여기서 재계산하지 않음 (state를 바꾸면 기존 연결이 그 변경분 delta를 받지 못함)
+     * → 현재 state를 snapshot으로 보내고 변경분은 다음 refresh()의 delta로 전송
+     * 연결 잠금을 잡은 채 등록하므로 이후 delta는 snapshot 전송이 끝난 뒤에 전송됨
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        DashboardStreamDTO current;
+        subscriber.sendLock.lock();
+        try {
+            lock.lock();
+            try {
+                current = state;
+                if (current == null || (subscribers.isEmpty() && (dirty.get() || isStale(current)))) {
+                    current = recompute();
+                }
+                subscribers.add(subscriber);
+            } finally {
+                lock.unlock();
+            }
+            if (!subscriber.send(event("snapshot", current))) {
+                subscribers.remove(subscriber);
+                emitter.complete();
+            }
+        } finally {
+            subscriber.sendLock.unlock();
+        }
+        return emitter;
+    }
+
+    /**
+     * 대시보드에 영향을 주는 변경이면 dirty 표시 (리뷰 변경은 대시보드와 무관)
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof BookingCreated || event instanceof BookingCancelled
+                    || event instanceof BookingStatusChanged
+                    || event instanceof RoomStatusChanged || event instanceof RoomChanged) {
+                dirty.set(true);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이벤트 큐가 넘쳐 변경 이벤트가 빠졌을 수 있으므로 다음 주기에 재계산
+     */
+    @Override
+    public void resync() {
+        dirty.set(true);
+    }
+
+    /**
+     * 변경이 있었으면 한 번 재계산 후 바뀐 항목만 전송
+     * 연결이 없으면 계산하지 않음 (다음 연결 시 계산)
+     */
+    @Scheduled(fixedDelayString = "${admin.dashboard.stream.refresh-ms:2000}")
+    public void refresh() {
+        DashboardStreamDTO previous = state;
+        if (subscribers.isEmpty() || (!dirty.get() && previous != null && !isStale(previous))) {
+            return;
+        }
+        DashboardStreamDTO delta;
+        List<Subscriber> targets;
+        lock.lock();
+        try {
+            previous = state;
+            DashboardStreamDTO current = recompute();
+            delta = diff(previous, current);
+            // 이 시점까지 등록된 연결만 대상 (이후 연결은 이번 상태를 snapshot으로 받음)
+            targets = List.copyOf(subscribers);
+        } catch (RuntimeException e) {
+            dirty.set(true); // 다음 주기에 재시도
+            log.warn("대시보드 재계산 실패: {}", e.getMessage());
+            return;
+        } finally {
+            lock.unlock();
+        }
+        if (delta != null) {
+            broadcast(targets, event("delta", delta));
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서의 유휴 연결 종료 방지 및 끊긴 연결 정리
+     */
+    @Scheduled(fixedRateString = "${admin.dashboard.stream.heartbeat-ms:30000}")
+    public void heartbeat() {
+        broadcast(subscribers, SseEmitter.event().comment("ping").build());
+    }
+
+    public int getConnectionCount() {
+        return subscribers.size();
+    }
+
+    public long getRecomputations() {
+        return recomputations.sum();
+    }
+
+    private DashboardStreamDTO recompute() {
+        // 재계산 중 들어온 변경은 다시 dirty로 표시되어 다음 주기에 반영
+        dirty.set(false);
+        LocalDate today = LocalDate.now();
+        DashboardDTO dashboard = adminService.getDashboard(today.getYear(), today.getMonthValue());
+        DashboardStreamDTO current = DashboardStreamDTO.builder()
+                .version(++version)
+                .date(today)
+                .todayCheckIns(dashboard.getTodayCheckIns())
+                .todayCheckOuts(dashboard.getTodayCheckOuts())
+                .monthlyStats(dashboard.getMonthlyStats())
+                .roomStatusSummary(dashboard.getRoomStatusSummary())
+                .currentStays(adminService.getCurrentStays())
+                .build();
+        state = current;
+        recomputations.increment();
+        return current;
+    }
+
+    /**
+     * 이전 상태와 달라진 항목만 담은 delta (바뀐 항목이 없으면 null)
+     */
+    private DashboardStreamDTO diff(DashboardStreamDTO previous, DashboardStreamDTO current) {
+        if (previous == null) {
+            return current;
+        }
+        DashboardStreamDTO delta = DashboardStreamDTO.builder()
+                .version(current.getVersion())
+                .date(current.getDate())
+                .build();
+        boolean changed = !Objects.equals(previous.getDate(), current.getDate());
+        if (!Objects.equals(previous.getTodayCheckIns(), current.getTodayCheckIns())) {
+            delta.setTodayCheckIns(current.getTodayCheckIns());
+            changed = true;
+        }
+        if (!Objects.equals(previous.getTodayCheckOuts(), current.getTodayCheckOuts())) {
+            delta.setTodayCheckOuts(current.getTodayCheckOuts());
+            changed = true;
+        }
+        if (!Objects.equals(previous.getMonthlyStats(), current.getMonthlyStats())) {
+            delta.setMonthlyStats(current.getMonthlyStats());
+            changed = true;
+        }
+        if (!Objects.equals(previous.getRoomStatusSummary(), current.getRoomStatusSummary())) {
+            delta.setRoomStatusSummary(current.getRoomStatusSummary());
+            changed = true;
+        }
+        if (!Objects.equals(previous.getCurrentStays(), current.getCurrentStays())) {
+            delta.setCurrentStays(current.getCurrentStays());
+            changed = true;
+        }
+        return changed ? delta : null;
+    }
+
+    /**
+     * 연결마다 전송 (JSON 직렬화/이벤트 구성은 호출한 쪽에서 한 번만), 실패한 연결은 정리
+     */
+    private void broadcast(List<Subscriber> targets, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        for (Subscriber subscriber : targets) {
+            subscriber.sendLock.lock();
+            try {
+                if (!subscriber.send(event)) {
+                    subscribers.remove(subscriber);
+                }
+            } finally {
+                subscriber.sendLock.unlock();
+            }
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> event(String name, DashboardStreamDTO data) {
+        try {
+            return SseEmitter.event()
+                    .name(name)
+                    .id(String.valueOf(data.getVersion()))
+                    .data(objectMapper.writeValueAsString(data), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대시보드 이벤트 직렬화 실패", e);
+        }
+    }
+
+    private boolean isStale(DashboardStreamDTO current) {
+        return !current.getDate().equals(LocalDate.now());
+    }
+
+    /**
+     * 연결 하나 (snapshot → delta 순서를 지키기 위해 연결별로 전송을 직렬화)
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final ReentrantLock sendLock = new ReentrantLock();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * @return 연결이 끊겨 전송하지 못했으면 false
+         */
+        private boolean send(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("대시보드 스트림 연결 종료: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+}
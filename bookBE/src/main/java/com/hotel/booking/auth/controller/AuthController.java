@@ -37,7 +37,7 @@ public class AuthController {
             // 기존 인증 코드가 있으면 자동으로 삭제하고 새 코드 생성
             emailVerificationService.sendVerificationCode(request.getEmail());
             
-            // 이메일 발송은 트랜잭션 커밋 후 실행 (별도 메서드로 분리)
+            // 이메일은 아웃박스에 저장되어 커밋 후 백그라운드에서 발송됨 (SMTP 대기 없음)
             // 인증 코드는 이미 저장되었으므로 성공으로 처리
             return ResponseEntity.ok(
                     new ApiResponse<>(true, null, "인증 코드가 생성되었습니다. 이메일 설정이 되어 있지 않으면 서버 로그를 확인해주세요.")
@@ -56,15 +56,14 @@ public class EmailVerificationService {
         emailVerificationRepository.saveAndFlush(verification);
         log.info("인증 코드 저장 완료: email={}", email);
         
-        // 이메일 발송 (트랜잭션 내에서 실행하되, 실패해도 롤백하지 않음)
-        sendEmailSafely(email, code);
+        // 이메일 발송 예약 (같은 트랜잭션에 아웃박스 행 저장, 실제 발송은 백그라운드 디스패처)
+        enqueueEmail(email, code);
     }
 
     /**
-     * 이메일 발송 (안전하게 처리, 실패해도 트랜잭션에 영향 없음)
+     * 인증 코드 메일 발송 예약 (메일 설정이 없으면 콘솔에만 출력)
      */
-    private void sendEmailSafely(String email, String code) {
-        // 이메일 발송
+    private void enqueueEmail(String email, String code) {
         String subject = "[호텔 예약 시스템] 이메일 인증 코드";
         String body = String.format(
                 "안녕하세요.\n\n" +
@@ -75,20 +74,9 @@ public class EmailVerificationService {
                 code
         );
 
-        // 이메일 설정이 되어 있으면 발송, 없으면 콘솔에만 출력 (개발 환경용)
+        // 이메일 설정이 되어 있으면 발송 예약, 없으면 콘솔에만 출력 (개발 환경용)
         if (mailUsername != null && !mailUsername.isEmpty() && !mailUsername.contains("your-email") && !mailUsername.startsWith("${")) {
-            try {
-                mailService.send(email, subject, body);
-                log.info("이메일 인증 코드 발송 성공: {}", email);
-            } catch (Exception e) {
-                log.error("이메일 발송 실패, 콘솔에 인증 코드 출력: {}", e.getMessage());
-                log.info("========================================");
-                log.info("이메일 인증 코드 (개발용)");
-                log.info("이메일: {}", email);
-                log.info("인증 코드: {}", code);
-                log.info("========================================");
-                // 이메일 발송 실패는 예외를 던지지 않음 (트랜잭션에 영향 없음)
-            }
+            mailService.enqueue(email, subject, body);
         } else {
             // 이메일 설정이 안 되어 있으면 콘솔에만 출력
             log.warn("이메일 설정이 되어 있지 않습니다. 환경 변수 MAIL_USERNAME과 MAIL_PASSWORD를 설정해주세요.");
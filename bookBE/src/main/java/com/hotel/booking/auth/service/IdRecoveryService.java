@@ -26,7 +26,7 @@ public class IdRecoveryService {
                     user.getId()
             );
 
-            mailService.send(email, subject, body);
+            mailService.enqueue(email, subject, body);
         });
         // 존재 여부와 관계없이 동일한 응답 메시지 반환 (보안)
     }
@@ -29,7 +29,7 @@ public class TemporaryPasswordService {
         user.setPassword(passwordEncoder.encode(tempPassword)); // 기존 비밀번호 덮어쓰기
         userRepository.save(user);
 
-        // 이메일 발송
+        // 이메일 발송 예약 (같은 트랜잭션에 저장, 커밋 후 백그라운드 발송)
         String subject = "[호텔 예약 시스템] 임시 비밀번호가 발급되었습니다";
         String body = String.format(
                 "안녕하세요. 호텔 예약 시스템입니다.\n\n" +
@@ -40,7 +40,7 @@ public class TemporaryPasswordService {
                 tempPassword
         );
 
-        mailService.send(email, subject, body);
+        mailService.enqueue(email, subject, body);
     }
 
     /**
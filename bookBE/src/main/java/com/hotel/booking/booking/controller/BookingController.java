@@ -1,7 +1,10 @@
 package com.hotel.booking.booking.controller;
 
 import com.hotel.booking.booking.dto.BookingDTO;
+import com.hotel.booking.booking.dto.BookingGroupDTO;
 import com.hotel.booking.booking.dto.BookingRequest;
+import com.hotel.booking.booking.dto.BulkBookingRequest;
+import com.hotel.booking.booking.dto.GroupBookingRequest;
 import com.hotel.booking.booking.service.BookingService;
 import com.hotel.booking.common.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,6 +30,45 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.createBooking(userId, request));
     }
 
+    /**
+     * 단체/기업 예약 (여러 객실을 한 번에 예약, 하나라도 실패하면 전체 취소)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BookingDTO>> createBookings(
+            @Valid @RequestBody BulkBookingRequest request,
+            HttpServletRequest httpRequest) {
+        String userId = getUserIdFromRequest(httpRequest);
+        return ResponseEntity.ok(bookingService.createBookings(userId, request));
+    }
+
+    /**
+     * 단체 예약 (객실 타입 + 수량, 객실은 서버에서 배정, 결제 1건)
+     */
+    @PostMapping("/groups")
+    public ResponseEntity<BookingGroupDTO> createGroupBooking(
+            @Valid @RequestBody GroupBookingRequest request,
+            HttpServletRequest httpRequest) {
+        String userId = getUserIdFromRequest(httpRequest);
+        return ResponseEntity.ok(bookingService.createGroupBooking(userId, request));
+    }
+
+    @GetMapping("/groups/{id:\\d+}")
+    public ResponseEntity<BookingGroupDTO> getGroupBooking(
+            @PathVariable Long id,
+            HttpServletRequest httpRequest) {
+        String userId = getUserIdFromRequest(httpRequest);
+        return ResponseEntity.ok(bookingService.getGroupBooking(id, userId));
+    }
+
+    @DeleteMapping("/groups/{id:\\d+}")
+    public ResponseEntity<Void> cancelGroupBooking(
+            @PathVariable Long id,
+            HttpServletRequest httpRequest) {
+        String userId = getUserIdFromRequest(httpRequest);
+        bookingService.cancelGroupBooking(id, userId);
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping
     public ResponseEntity<List<BookingDTO>> getUserBookings(HttpServletRequest httpRequest) {
         String userId = getUserIdFromRequest(httpRequest);
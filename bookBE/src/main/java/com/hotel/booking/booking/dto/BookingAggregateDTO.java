@@ -0,0 +1,22 @@
+package com.hotel.booking.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 예약 건수/금액 합계 집계 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingAggregateDTO {
+    private Long bookingCount;
+    private BigDecimal totalRevenue;
+
+    public BigDecimal getTotalRevenue() {
+        return totalRevenue != null ? totalRevenue : BigDecimal.ZERO;
+    }
+}
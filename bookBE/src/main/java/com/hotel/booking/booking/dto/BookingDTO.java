@@ -29,5 +29,6 @@ public class BookingDTO {
     private String specialRequests;
     private LocalDateTime createdAt;
     private PaymentDTO payment;
+    private Long groupId; // 단체 예약에 속한 예약이면 설정 (결제는 단체 예약에 1건)
 }
 
@@ -0,0 +1,31 @@
+package com.hotel.booking.booking.dto;
+
+import com.hotel.booking.booking.entity.BookingGroup;
+import com.hotel.booking.payment.dto.PaymentDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingGroupDTO {
+    private Long id;
+    private String userId;
+    private String roomType;
+    private Integer quantity;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private BigDecimal totalPrice;
+    private BookingGroup.GroupStatus status;
+    private LocalDateTime createdAt;
+    private PaymentDTO payment; // 단체 예약 전체에 대한 결제 1건
+    private List<BookingDTO> bookings; // 배정된 객실별 예약 (객실 ID 순)
+}
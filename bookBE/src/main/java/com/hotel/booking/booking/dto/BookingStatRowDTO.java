@@ -0,0 +1,24 @@
+package com.hotel.booking.booking.dto;
+
+import com.hotel.booking.booking.entity.Booking;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 통계 롤업용 프로젝션 (생성 시각, 숙박 기간, 금액, 상태만 로드)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingStatRowDTO {
+    private LocalDateTime createdAt;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private BigDecimal totalPrice;
+    private Booking.BookingStatus status;
+}
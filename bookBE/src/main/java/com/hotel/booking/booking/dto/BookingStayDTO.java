@@ -0,0 +1,20 @@
+package com.hotel.booking.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 객실 점유 구간 조회용 프로젝션 (예약 ID, 객실 ID, 숙박 기간만 로드)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingStayDTO {
+    private Long bookingId;
+    private Long roomId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+}
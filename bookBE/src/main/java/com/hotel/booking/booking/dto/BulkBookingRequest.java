@@ -0,0 +1,19 @@
+package com.hotel.booking.booking.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 단체/기업 예약 요청 (여러 객실 예약을 한 번에 생성, 하나라도 실패하면 전체 취소)
+ */
+@Data
+public class BulkBookingRequest {
+    @NotEmpty(message = "예약 목록은 필수입니다")
+    @Size(max = 100, message = "한 번에 최대 100건까지 예약할 수 있습니다")
+    @Valid
+    private List<BookingRequest> bookings;
+}
@@ -0,0 +1,37 @@
+package com.hotel.booking.booking.dto;
+
+import com.hotel.booking.payment.entity.Payment;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 단체 예약 요청 (객실 타입 + 수량, 객실은 서버에서 배정)
+ */
+@Data
+public class GroupBookingRequest {
+    @NotBlank(message = "객실 타입은 필수입니다")
+    private String roomType;
+
+    @NotNull(message = "객실 수는 필수입니다")
+    @Min(value = 1, message = "객실 수는 최소 1개 이상이어야 합니다")
+    @Max(value = 50, message = "한 번에 최대 50개 객실까지 예약할 수 있습니다")
+    private Integer quantity;
+
+    @NotNull(message = "체크인 날짜는 필수입니다")
+    private LocalDate checkInDate;
+
+    @NotNull(message = "체크아웃 날짜는 필수입니다")
+    private LocalDate checkOutDate;
+
+    @NotNull(message = "객실당 인원수는 필수입니다")
+    @Min(value = 1, message = "객실당 인원수는 최소 1명 이상이어야 합니다")
+    private Integer guestsPerRoom;
+
+    @NotNull(message = "결제 방법은 필수입니다")
+    private Payment.PaymentMethod method;
+}
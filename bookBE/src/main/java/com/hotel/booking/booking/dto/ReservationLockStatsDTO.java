@@ -0,0 +1,24 @@
+package com.hotel.booking.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 객실 예약 잠금 통계 (잠금 획득 횟수, 경합 횟수, 대기 시간)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReservationLockStatsDTO {
+    private Integer stripes;
+    private Long acquisitions;
+    private Long contended;
+    private Long timeouts;
+    private Long bypassed; // 객실이 많아 스트라이프 없이 DB 행 잠금만 사용한 여러 객실 요청 수
+    private Double contentionRate;
+    private Double averageWaitMs;
+    private Double maxWaitMs;
+}
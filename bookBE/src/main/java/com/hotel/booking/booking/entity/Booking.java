@@ -14,14 +14,22 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_user_id", columnList = "user_id"),
+        @Index(name = "idx_bookings_status_check_in", columnList = "status, check_in_date"),
+        @Index(name = "idx_bookings_status_check_out", columnList = "status, check_out_date"),
+        @Index(name = "idx_bookings_created_at", columnList = "created_at"),
+        @Index(name = "idx_bookings_group_id", columnList = "group_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Booking {
+    // 시퀀스 ID (50개씩 미리 할당): persist 시 insert를 바로 실행하지 않아 커밋 시 JDBC 배치로 묶임
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,6 +63,11 @@ public class Booking {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // 단체 예약에 속한 객실 예약이면 설정 (결제는 단체 예약에 1건, 이 예약의 payment는 없음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id")
+    private BookingGroup group;
+
     // CASCADE 제거: 예약 삭제 시 결제는 보존 (결제는 법적 증빙 자료이므로 절대 삭제되면 안 됨)
     @OneToOne(mappedBy = "booking")
     private Payment payment;
@@ -0,0 +1,74 @@
+package com.hotel.booking.booking.entity;
+
+import com.hotel.booking.payment.entity.Payment;
+import com.hotel.booking.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 단체 예약 (같은 타입 객실 여러 개를 같은 기간에 예약)
+ * - 객실별 예약(Booking)은 group_id로 이 단체 예약에 묶임
+ * - 결제는 객실별이 아닌 단체 예약 전체에 대해 1건
+ * - 생성/취소는 항상 전체 단위 (일부 객실만 예약/취소되는 경우 없음)
+ */
+@Entity
+@Table(name = "booking_groups", indexes = {
+        @Index(name = "idx_booking_groups_user_id", columnList = "user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingGroup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_groups_seq")
+    @SequenceGenerator(name = "booking_groups_seq", sequenceName = "booking_groups_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "room_type", nullable = false)
+    private String roomType;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "check_in_date", nullable = false)
+    private LocalDate checkInDate;
+
+    @Column(name = "check_out_date", nullable = false)
+    private LocalDate checkOutDate;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private GroupStatus status = GroupStatus.CONFIRMED;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // 결제는 보존 (Booking과 같이 CASCADE 없음)
+    @OneToOne(mappedBy = "group")
+    private Payment payment;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public enum GroupStatus {
+        CONFIRMED, CANCELLED
+    }
+}
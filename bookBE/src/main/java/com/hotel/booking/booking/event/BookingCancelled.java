@@ -0,0 +1,13 @@
+package com.hotel.booking.booking.event;
+
+import com.hotel.booking.common.event.DomainEvent;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자 예약 취소
+ */
+public record BookingCancelled(Long bookingId, Long roomId, String roomType,
+                               LocalDate checkInDate, LocalDate checkOutDate)
+        implements DomainEvent {
+}
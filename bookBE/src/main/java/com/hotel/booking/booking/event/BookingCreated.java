@@ -0,0 +1,16 @@
+package com.hotel.booking.booking.event;
+
+import com.hotel.booking.common.event.DomainEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 예약 생성 (CONFIRMED)
+ * roomType, totalPrice, createdDate는 통계 롤업용 (객실 타입이 나중에 바뀌면 BookingStatsMoved로 새 타입 행으로 옮김)
+ */
+public record BookingCreated(Long bookingId, Long roomId, String roomType,
+                             LocalDate checkInDate, LocalDate checkOutDate,
+                             BigDecimal totalPrice, LocalDate createdDate)
+        implements DomainEvent {
+}
@@ -0,0 +1,14 @@
+package com.hotel.booking.booking.event;
+
+import com.hotel.booking.booking.dto.BookingStatRowDTO;
+import com.hotel.booking.common.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * 객실 타입 변경으로 그 객실의 예약 통계가 다른 타입으로 옮겨감
+ * bookings: 변경 시점 그 객실의 예약 (이후 이 객실의 예약/취소 이벤트는 새 타입으로 발행됨)
+ */
+public record BookingStatsMoved(Long roomId, String previousRoomType, String roomType,
+                                List<BookingStatRowDTO> bookings) implements DomainEvent {
+}
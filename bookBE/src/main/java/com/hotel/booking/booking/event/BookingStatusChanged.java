@@ -0,0 +1,23 @@
+package com.hotel.booking.booking.event;
+
+import com.hotel.booking.booking.entity.Booking;
+import com.hotel.booking.common.event.DomainEvent;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 예약 상태 변경 (체크인, 체크아웃, 취소, 취소 복구 등)
+ */
+public record BookingStatusChanged(Long bookingId, Long roomId, String roomType,
+                                   LocalDate checkInDate, LocalDate checkOutDate,
+                                   Booking.BookingStatus previousStatus, Booking.BookingStatus status)
+        implements DomainEvent {
+
+    public boolean cancelled() {
+        return previousStatus != Booking.BookingStatus.CANCELLED && status == Booking.BookingStatus.CANCELLED;
+    }
+
+    public boolean restored() {
+        return previousStatus == Booking.BookingStatus.CANCELLED && status != Booking.BookingStatus.CANCELLED;
+    }
+}
@@ -0,0 +1,27 @@
+package com.hotel.booking.booking.repository;
+
+import com.hotel.booking.booking.entity.BookingGroup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BookingGroupRepository extends JpaRepository<BookingGroup, Long> {
+    /**
+     * 단체 예약 + 사용자 + 결제 함께 조회
+     */
+    @Query("SELECT g FROM BookingGroup g JOIN FETCH g.user LEFT JOIN FETCH g.payment WHERE g.id = :id")
+    Optional<BookingGroup> findByIdWithDetails(@Param("id") Long id);
+
+    /**
+     * 단체 예약 행 잠금 조회 (취소를 단체 예약 단위로 직렬화, 외부 조인에는 FOR UPDATE를 걸 수 없으므로 fetch join 없음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM BookingGroup g WHERE g.id = :id")
+    Optional<BookingGroup> findByIdForUpdate(@Param("id") Long id);
+}
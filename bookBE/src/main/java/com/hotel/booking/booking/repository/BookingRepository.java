@@ -1,29 +1,107 @@
 package com.hotel.booking.booking.repository;
 
+import com.hotel.booking.booking.dto.BookingAggregateDTO;
+import com.hotel.booking.booking.dto.BookingStatRowDTO;
+import com.hotel.booking.booking.dto.BookingStayDTO;
 import com.hotel.booking.booking.entity.Booking;
 import com.hotel.booking.room.entity.Room;
 import com.hotel.booking.user.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByUser(User user);
+
+    /**
+     * 사용자 예약 목록 (객실/사용자/결제를 한 번의 쿼리로 로드)
+     * 단체 예약에 속한 예약은 결제가 단체 예약에 있으므로 단체 예약 결제도 함께 로드
+     */
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room JOIN FETCH b.user LEFT JOIN FETCH b.payment " +
+           "LEFT JOIN FETCH b.group g LEFT JOIN FETCH g.payment " +
+           "WHERE b.user.id = :userId")
+    List<Booking> findByUserIdWithDetails(@Param("userId") String userId);
+
+    /**
+     * 리뷰 작성 가능 예약 목록 (취소 아님, 체크아웃이 [from, today), 작성된 리뷰 없음)
+     * 인덱스: idx_reviews_booking_id
+     */
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room JOIN FETCH b.user LEFT JOIN FETCH b.payment " +
+           "LEFT JOIN FETCH b.group g LEFT JOIN FETCH g.payment " +
+           "WHERE b.user.id = :userId " +
+           "AND b.status <> com.hotel.booking.booking.entity.Booking.BookingStatus.CANCELLED " +
+           "AND b.checkOutDate >= :from AND b.checkOutDate < :today " +
+           "AND NOT EXISTS (SELECT r.id FROM Review r WHERE r.booking.id = b.id)")
+    List<Booking> findReviewableByUserId(
+            @Param("userId") String userId,
+            @Param("from") LocalDate from,
+            @Param("today") LocalDate today);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room JOIN FETCH b.user LEFT JOIN FETCH b.payment " +
+           "LEFT JOIN FETCH b.group g LEFT JOIN FETCH g.payment " +
+           "WHERE b.id = :id")
+    Optional<Booking> findByIdWithDetails(@Param("id") Long id);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room JOIN FETCH b.user LEFT JOIN FETCH b.payment " +
+           "LEFT JOIN FETCH b.group g LEFT JOIN FETCH g.payment")
+    List<Booking> findAllWithDetails();
+
+    /**
+     * 예약의 객실 ID만 조회 (예약 엔티티를 영속성 컨텍스트에 올리지 않음: 객실 잠금 전에 사용)
+     */
+    @Query("SELECT b.room.id FROM Booking b WHERE b.id = :id")
+    Optional<Long> findRoomIdById(@Param("id") Long id);
+
+    /**
+     * 예약 행 잠금 조회 (SELECT ... FOR UPDATE)
+     * 같은 예약에 대한 동시 취소/상태 변경을 커밋 순서대로 직렬화하고 먼저 커밋된 변경을 본 상태로 로드
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.id = :id")
+    Optional<Booking> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 단체 예약에 속한 객실별 예약 (객실 ID 순)
+     * 인덱스: idx_bookings_group_id
+     */
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room r JOIN FETCH b.user LEFT JOIN FETCH b.payment " +
+           "WHERE b.group.id = :groupId ORDER BY r.id")
+    List<Booking> findByGroupIdWithDetails(@Param("groupId") Long groupId);
+
+    /**
+     * 단체 예약에 속한 예약의 객실 ID (취소 전 객실 스트라이프 잠금용)
+     */
+    @Query("SELECT b.room.id FROM Booking b WHERE b.group.id = :groupId ORDER BY b.room.id")
+    List<Long> findRoomIdsByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * 단체 예약에 속한 예약 행을 ID 순으로 잠금 (잠근 뒤 findByGroupIdWithDetails로 최신 상태 로드)
+     */
+    @Query(value = "SELECT id FROM bookings WHERE group_id = :groupId ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsByGroupId(@Param("groupId") Long groupId);
     
     /**
-     * 특정 객실의 날짜 범위가 겹치는 예약을 조회
-     * 날짜 범위 겹침 조건: (checkInDate < checkOutDate) AND (checkOutDate > checkInDate)
-     * 예: 예약 A (12/10~12/12)와 예약 B (12/11~12/13)는 겹침
+     * 특정 객실에 날짜 범위가 겹치는 취소되지 않은 예약이 있는지 확인
      */
-    @Query("SELECT b FROM Booking b WHERE b.room = :room " +
+    @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.room = :room " +
+           "AND b.status <> com.hotel.booking.booking.entity.Booking.BookingStatus.CANCELLED " +
            "AND b.checkInDate < :checkOutDate AND b.checkOutDate > :checkInDate")
-    List<Booking> findByRoomAndCheckInDateAndCheckOutDate(
+    boolean existsActiveOverlap(
             @Param("room") Room room,
             @Param("checkInDate") LocalDate checkInDate,
             @Param("checkOutDate") LocalDate checkOutDate);
@@ -33,5 +111,120 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByStatusAndCheckOutDateBefore(Booking.BookingStatus status, LocalDate checkOutDate);
     
     List<Booking> findByRoomAndStatus(Room room, Booking.BookingStatus status);
-}
 
+    /**
+     * 취소되지 않은 예약의 점유 구간 조회 (객실 가용성 인덱스 초기화용)
+     */
+    @Query("SELECT new com.hotel.booking.booking.dto.BookingStayDTO(b.id, b.room.id, b.checkInDate, b.checkOutDate) " +
+           "FROM Booking b WHERE b.status <> com.hotel.booking.booking.entity.Booking.BookingStatus.CANCELLED")
+    List<BookingStayDTO> findActiveStays();
+
+    /**
+     * 객실의 취소되지 않은 예약 행을 ID 순으로 잠금 (객실 타입 변경 시 취소/복구와 겹치지 않도록)
+     */
+    @Query(value = "SELECT id FROM bookings WHERE room_id = :roomId AND status <> 'CANCELLED' " +
+                   "ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockActiveIdsByRoomId(@Param("roomId") Long roomId);
+
+    /**
+     * 객실 하나의 예약 통계 재료 (취소 예약 포함, 객실 타입 변경 시 통계 이동용)
+     */
+    @Query("SELECT new com.hotel.booking.booking.dto.BookingStatRowDTO(" +
+           "b.createdAt, b.checkInDate, b.checkOutDate, b.totalPrice, b.status) " +
+           "FROM Booking b WHERE b.room.id = :roomId")
+    List<BookingStatRowDTO> findStatRowsByRoomId(@Param("roomId") Long roomId);
+
+    /**
+     * 여러 객실의 [from, to)와 겹치는 취소되지 않은 예약 점유 구간 (단체 예약 중복 검사를 쿼리 한 번으로)
+     */
+    @Query("SELECT new com.hotel.booking.booking.dto.BookingStayDTO(b.id, b.room.id, b.checkInDate, b.checkOutDate) " +
+           "FROM Booking b WHERE b.room.id IN :roomIds " +
+           "AND b.status <> com.hotel.booking.booking.entity.Booking.BookingStatus.CANCELLED " +
+           "AND b.checkInDate < :to AND b.checkOutDate > :from")
+    List<BookingStayDTO> findActiveStaysByRoomIds(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * 특정 상태 + 체크인 날짜의 예약 조회 (대시보드용, 객실/사용자/결제 함께 로드)
+     * 인덱스: idx_bookings_status_check_in
+     */
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room JOIN FETCH b.user LEFT JOIN FETCH b.payment " +
+           "WHERE b.status = :status AND b.checkInDate = :date")
+    List<Booking> findByStatusAndCheckInDate(
+            @Param("status") Booking.BookingStatus status,
+            @Param("date") LocalDate date);
+
+    /**
+     * 특정 상태 + 체크아웃 날짜의 예약 조회 (대시보드용, 객실/사용자/결제 함께 로드)
+     * 인덱스: idx_bookings_status_check_out
+     */
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room JOIN FETCH b.user LEFT JOIN FETCH b.payment " +
+           "WHERE b.status = :status AND b.checkOutDate = :date")
+    List<Booking> findByStatusAndCheckOutDate(
+            @Param("status") Booking.BookingStatus status,
+            @Param("date") LocalDate date);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room JOIN FETCH b.user LEFT JOIN FETCH b.payment " +
+           "WHERE b.status = :status")
+    List<Booking> findByStatusWithDetails(@Param("status") Booking.BookingStatus status);
+
+    long countByStatusAndCheckInDateGreaterThanEqual(Booking.BookingStatus status, LocalDate checkInDate);
+
+    /**
+     * 특정 상태이고 체크아웃 날짜가 지나지 않은 예약이 있는 객실 수
+     */
+    @Query("SELECT COUNT(DISTINCT b.room.id) FROM Booking b " +
+           "WHERE b.status = :status AND b.checkOutDate >= :date")
+    long countRoomsByStatusAndCheckOutDateFrom(
+            @Param("status") Booking.BookingStatus status,
+            @Param("date") LocalDate date);
+
+    /**
+     * 예약 생성일 구간 [from, to)의 예약 건수/금액 합계
+     * 인덱스: idx_bookings_created_at
+     */
+    @Query("SELECT new com.hotel.booking.booking.dto.BookingAggregateDTO(COUNT(b), SUM(b.totalPrice)) " +
+           "FROM Booking b WHERE b.createdAt >= :from AND b.createdAt < :to")
+    BookingAggregateDTO aggregateByCreatedAtBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * 관리자 예약 목록 키셋 페이지 (id 내림차순, cursor보다 작은 id부터)
+     * 단체 예약에 속한 예약은 결제가 단체 예약에 있으므로 단체 예약 결제도 함께 로드
+     */
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room JOIN FETCH b.user LEFT JOIN FETCH b.payment " +
+           "LEFT JOIN FETCH b.group g LEFT JOIN FETCH g.payment " +
+           "WHERE (:cursor IS NULL OR b.id < :cursor) " +
+           "AND (:status IS NULL OR b.status = :status) " +
+           "AND (:roomId IS NULL OR b.room.id = :roomId) " +
+           "AND (:fromDate IS NULL OR b.checkInDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR b.checkInDate <= :toDate) " +
+           "ORDER BY b.id DESC")
+    List<Booking> findPageForAdmin(
+            @Param("cursor") Long cursor,
+            @Param("status") Booking.BookingStatus status,
+            @Param("roomId") Long roomId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            Limit limit);
+
+    /**
+     * 관리자 예약 내보내기용 스트림 (JDBC fetch size 단위로 읽음, 트랜잭션 안에서만 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room JOIN FETCH b.user LEFT JOIN FETCH b.payment " +
+           "LEFT JOIN FETCH b.group g LEFT JOIN FETCH g.payment " +
+           "WHERE (:status IS NULL OR b.status = :status) " +
+           "AND (:roomId IS NULL OR b.room.id = :roomId) " +
+           "AND (:fromDate IS NULL OR b.checkInDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR b.checkInDate <= :toDate) " +
+           "ORDER BY b.id DESC")
+    Stream<Booking> streamForAdmin(
+            @Param("status") Booking.BookingStatus status,
+            @Param("roomId") Long roomId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+}
@@ -1,17 +1,31 @@
 package com.hotel.booking.booking.service;
 
 import com.hotel.booking.booking.dto.BookingDTO;
+import com.hotel.booking.booking.dto.BookingGroupDTO;
 import com.hotel.booking.booking.dto.BookingRequest;
+import com.hotel.booking.booking.dto.BookingStayDTO;
+import com.hotel.booking.booking.dto.BulkBookingRequest;
+import com.hotel.booking.booking.dto.GroupBookingRequest;
+import com.hotel.booking.booking.event.BookingCancelled;
+import com.hotel.booking.booking.event.BookingCreated;
+import com.hotel.booking.common.event.DomainEventBus;
 import com.hotel.booking.payment.dto.PaymentDTO;
 import com.hotel.booking.booking.entity.Booking;
+import com.hotel.booking.booking.entity.BookingGroup;
 import com.hotel.booking.payment.entity.Payment;
 import com.hotel.booking.room.entity.Room;
 import com.hotel.booking.user.entity.User;
+import com.hotel.booking.booking.repository.BookingGroupRepository;
 import com.hotel.booking.booking.repository.BookingRepository;
 import com.hotel.booking.payment.repository.PaymentRepository;
 import com.hotel.booking.room.repository.RoomRepository;
+import com.hotel.booking.room.service.RoomAvailabilityIndex;
 import com.hotel.booking.user.repository.UserRepository;
 import com.hotel.booking.review.repository.ReviewRepository;
+import com.hotel.booking.review.event.ReviewChanged;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,26 +34,47 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "hotel.service", description = "서비스 메서드 실행 시간 (class/method/exception 태그)")
 public class BookingService {
     private final BookingRepository bookingRepository;
+    private final BookingGroupRepository bookingGroupRepository;
     private final PaymentRepository paymentRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
+    private final DomainEventBus eventBus;
+    private final ReservationLockManager reservationLockManager;
+    private final RoomAvailabilityIndex availabilityIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 단체 예약 시 요청 수량보다 더 잠가 두는 후보 객실 수 (커밋 직후 인덱스 반영 전의 예약 등으로 DB 확인에서 빠질 수 있음)
+    private static final int GROUP_SPARE_ROOMS = 5;
 
     @Transactional
+    @Timed(value = "hotel.booking.create", description = "예약 생성 시간")
     public BookingDTO createBooking(String userId, BookingRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
-        Room room = roomRepository.findById(request.getRoomId())
+        // 객실 스트라이프 잠금 (트랜잭션 종료 시 해제): 같은 객실 요청은 DB 잠금 전에 JVM 안에서 대기
+        reservationLockManager.lockRoomUntilTransactionEnds(request.getRoomId());
+
+        // 객실 행 잠금: 같은 객실에 대한 동시 예약은 커밋 순서대로 직렬화됨
+        // (잠금 획득 후 중복 검사를 하므로 먼저 커밋된 예약이 항상 보임)
+        Room room = roomRepository.findByIdForUpdate(request.getRoomId())
                 .orElseThrow(() -> new RuntimeException("객실을 찾을 수 없습니다"));
 
         // 객실 활성화 여부 체크 (available = false면 예약 불가)
@@ -47,100 +82,274 @@ public class BookingService {
             throw new RuntimeException("비활성화된 객실입니다. 예약할 수 없습니다");
         }
 
-        // 날짜 검증
-        if (request.getCheckInDate().isAfter(request.getCheckOutDate()) || 
-            request.getCheckInDate().isEqual(request.getCheckOutDate())) {
-            throw new RuntimeException("체크아웃 날짜는 체크인 날짜보다 이후여야 합니다");
-        }
+        validateDates(request);
 
-        // 중복 예약 확인 (같은 객실의 같은 날짜 범위에 예약이 있는지 체크)
-        // 취소되지 않은 예약 중에서 날짜 범위가 겹치는 예약이 있는지 확인
-        List<Booking> overlappingBookings = bookingRepository.findByRoomAndCheckInDateAndCheckOutDate(
-                room, request.getCheckInDate(), request.getCheckOutDate());
-        
-        // 취소되지 않은 예약이 있는지 확인
-        boolean hasOverlap = overlappingBookings.stream()
-                .anyMatch(b -> b.getStatus() != Booking.BookingStatus.CANCELLED);
-        
-        if (hasOverlap) {
+        // 중복 예약 확인 (같은 객실의 같은 날짜 범위에 취소되지 않은 예약이 있는지 체크)
+        if (bookingRepository.existsActiveOverlap(room, request.getCheckInDate(), request.getCheckOutDate())) {
             throw new RuntimeException("선택한 날짜에 이미 예약이 있습니다. 다른 날짜를 선택해주세요.");
         }
 
-        // 총 가격 계산
-        long nights = ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate());
-        BigDecimal totalPrice = room.getPricePerNight().multiply(BigDecimal.valueOf(nights));
+        // 예약 + 결제 persist (시퀀스 ID라 insert는 커밋 시 한 번의 flush로 배치 전송)
+        Booking booking = newBooking(user, room, request);
+        bookingRepository.save(booking);
+        paymentRepository.save(booking.getPayment());
 
-        // 예약 생성 (CONFIRMED 상태로 생성 - 결제 완료 후)
-        Booking booking = Booking.builder()
+        // 커밋 후 가용성 인덱스, 객실 목록 캐시, 대시보드, 통계 롤업에 반영
+        publishCreated(booking);
+
+        return convertToDTO(booking);
+    }
+
+    /**
+     * 단체/기업 예약: 여러 객실 예약을 한 트랜잭션에서 생성 (하나라도 실패하면 전체 롤백)
+     * - 객실 잠금은 정해진 순서로 획득 (JVM 잠금: 스트라이프 번호 순, DB 행 잠금: 객실 ID 순)
+     *   객실이 많으면 JVM 잠금 없이 DB 행 잠금만 사용 (ReservationLockManager 참고)
+     * - 중복 검사는 요청 안의 예약끼리 + 요청 객실 전체를 쿼리 한 번으로 확인
+     * - 예약/결제 insert는 커밋 시 JDBC 배치로 전송 (통계 롤업은 커밋 후 이벤트로 반영)
+     */
+    @Transactional
+    @Timed(value = "hotel.booking.create.bulk", description = "단체 예약 생성 시간")
+    public List<BookingDTO> createBookings(String userId, BulkBookingRequest request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        List<BookingRequest> items = request.getBookings();
+        items.forEach(this::validateDates);
+        validateNoOverlapWithinRequest(items);
+
+        List<Long> roomIds = items.stream()
+                .map(BookingRequest::getRoomId)
+                .distinct()
+                .sorted()
+                .toList();
+        reservationLockManager.lockRoomsUntilTransactionEnds(roomIds);
+
+        Map<Long, Room> rooms = roomRepository.findAllByIdForUpdate(roomIds).stream()
+                .collect(Collectors.toMap(Room::getId, room -> room));
+        for (Long roomId : roomIds) {
+            Room room = rooms.get(roomId);
+            if (room == null) {
+                throw new RuntimeException("객실을 찾을 수 없습니다: " + roomId);
+            }
+            if (!room.getAvailable()) {
+                throw new RuntimeException("비활성화된 객실입니다. 예약할 수 없습니다: " + room.getName());
+            }
+        }
+
+        // 요청 객실들의 전체 기간과 겹치는 기존 예약을 한 번에 조회 후 메모리에서 검사
+        LocalDate from = items.stream().map(BookingRequest::getCheckInDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = items.stream().map(BookingRequest::getCheckOutDate).max(LocalDate::compareTo).orElseThrow();
+        Map<Long, List<BookingStayDTO>> staysByRoom = bookingRepository.findActiveStaysByRoomIds(roomIds, from, to).stream()
+                .collect(Collectors.groupingBy(BookingStayDTO::getRoomId));
+        for (BookingRequest item : items) {
+            boolean overlaps = staysByRoom.getOrDefault(item.getRoomId(), List.of()).stream()
+                    .anyMatch(stay -> stay.getCheckInDate().isBefore(item.getCheckOutDate())
+                            && stay.getCheckOutDate().isAfter(item.getCheckInDate()));
+            if (overlaps) {
+                throw new RuntimeException("선택한 날짜에 이미 예약이 있습니다: " + rooms.get(item.getRoomId()).getName()
+                        + " (" + item.getCheckInDate() + " ~ " + item.getCheckOutDate() + ")");
+            }
+        }
+
+        List<Booking> bookings = items.stream()
+                .map(item -> newBooking(user, rooms.get(item.getRoomId()), item))
+                .toList();
+        bookingRepository.saveAll(bookings);
+        paymentRepository.saveAll(bookings.stream().map(Booking::getPayment).toList());
+
+        bookings.forEach(this::publishCreated);
+
+        return bookings.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 단체 예약: 객실 타입 + 수량으로 요청하면 빈 객실을 배정해 전체를 한 트랜잭션에서 생성
+     * 1) 가용성 인덱스에서 후보 객실 선정 (DB 조회 없음) - 타입 남은 객실 수로 먼저 거르고, 수량 + 여분 객실까지
+     * 2) 후보 객실 전체를 정해진 순서로 잠근 뒤 DB 기준으로 다시 확인하고 객실 ID 순으로 수량만큼 배정
+     * 3) 모자라면 DB에서 빈 객실을 ID 순으로 더 잠가(SKIP LOCKED) 다시 확인 - 인덱스에 아직 없는 예약이 있어도 배정 가능
+     * 4) 단체 예약 1건 + 객실별 예약 + 결제 1건(합계 금액)을 커밋 시 배치 insert
+     * 배정하지 못하면 아무것도 저장하지 않음 (일부 객실만 예약되는 경우 없음)
+     */
+    @Transactional
+    @Timed(value = "hotel.booking.create.group", description = "단체 예약 생성 시간")
+    public BookingGroupDTO createGroupBooking(String userId, GroupBookingRequest request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+
+        LocalDate checkIn = request.getCheckInDate();
+        LocalDate checkOut = request.getCheckOutDate();
+        validateDates(checkIn, checkOut);
+        int quantity = request.getQuantity();
+
+        // 타입 남은 객실 수가 이미 부족하면 객실별 확인 없이 거절 (-1이면 알 수 없음 → 객실별 확인)
+        int remaining = availabilityIndex.minRemaining(request.getRoomType(), checkIn, checkOut);
+        if (remaining >= 0 && remaining < quantity) {
+            throw new RuntimeException("예약 가능한 객실이 부족합니다 (요청 " + quantity + "개, 가능 " + remaining + "개 이하)");
+        }
+
+        // 후보 선정은 쿼리 캐시 목록 기준 (잠금 전 상태), 잠근 뒤 다시 확인
+        List<Room> roomsOfType = roomRepository.findByType(request.getRoomType());
+        List<Long> candidates = roomsOfType.stream()
+                .filter(Room::getAvailable)
+                .filter(room -> room.getCapacity() >= request.getGuestsPerRoom())
+                .map(Room::getId)
+                .filter(id -> availabilityIndex.isFree(id, checkIn, checkOut))
+                .sorted()
+                .limit(quantity + GROUP_SPARE_ROOMS)
+                .toList();
+        // 영속성 컨텍스트에 남아 있으면 잠금 조회가 DB 행 대신 이 (잠금 전) 객체를 돌려주므로 분리
+        roomsOfType.forEach(entityManager::detach);
+        if (candidates.size() < quantity) {
+            throw new RuntimeException("예약 가능한 객실이 부족합니다 (요청 " + quantity + "개, 가능 " + candidates.size() + "개)");
+        }
+
+        reservationLockManager.lockRoomsUntilTransactionEnds(candidates);
+        List<Room> allocated = new ArrayList<>(freeRooms(roomRepository.findAllByIdForUpdate(candidates),
+                request, checkIn, checkOut, quantity));
+
+        // 후보 중 일부가 DB 기준으로 이미 예약되어 있으면 다음 빈 객실을 DB에서 직접 찾아 배정
+        Set<Long> tried = new HashSet<>(candidates);
+        while (allocated.size() < quantity) {
+            int missing = quantity - allocated.size();
+            List<Room> more = roomRepository.findFreeByTypeForUpdateSkipLocked(request.getRoomType(),
+                    request.getGuestsPerRoom(), checkIn, checkOut, tried, missing + GROUP_SPARE_ROOMS);
+            if (more.isEmpty()) {
+                throw new RuntimeException("다른 예약과 동시에 처리되어 객실을 배정하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            more.forEach(room -> tried.add(room.getId()));
+            allocated.addAll(freeRooms(more, request, checkIn, checkOut, missing));
+        }
+        allocated.sort(Comparator.comparing(Room::getId));
+
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        BigDecimal totalPrice = allocated.stream()
+                .map(room -> room.getPricePerNight().multiply(BigDecimal.valueOf(nights)))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        BookingGroup group = BookingGroup.builder()
                 .user(user)
-                .room(room)
-                .checkInDate(request.getCheckInDate())
-                .checkOutDate(request.getCheckOutDate())
-                .guests(request.getGuests())
+                .roomType(request.getRoomType())
+                .quantity(quantity)
+                .checkInDate(checkIn)
+                .checkOutDate(checkOut)
                 .totalPrice(totalPrice)
-                .status(Booking.BookingStatus.CONFIRMED)
+                .status(BookingGroup.GroupStatus.CONFIRMED)
                 .build();
-
-        // Booking을 먼저 저장하여 ID를 생성
-        booking = bookingRepository.save(booking);
-
-        // 결제 생성 및 처리 (booking이 저장된 후 생성)
         Payment payment = Payment.builder()
+                .group(group)
                 .amount(totalPrice)
                 .method(request.getMethod())
                 .status(Payment.PaymentStatus.PAID)
-                .paymentDate(java.time.LocalDateTime.now())
-                .transactionId(java.util.UUID.randomUUID().toString())
+                .paymentDate(LocalDateTime.now())
+                .transactionId(UUID.randomUUID().toString())
                 .build();
-        
-        // Payment에 Booking 명시적으로 설정 (JPA 관계 설정)
-        payment.setBooking(booking);
+        group.setPayment(payment);
 
-        // Payment 저장
-        payment = paymentRepository.save(payment);
-        
-        // Booking에 Payment 연결 (양방향 관계 설정)
-        booking.setPayment(payment);
-        bookingRepository.save(booking);
+        List<Booking> bookings = allocated.stream()
+                .map(room -> Booking.builder()
+                        .user(user)
+                        .room(room)
+                        .group(group)
+                        .checkInDate(checkIn)
+                        .checkOutDate(checkOut)
+                        .guests(request.getGuestsPerRoom())
+                        .totalPrice(room.getPricePerNight().multiply(BigDecimal.valueOf(nights)))
+                        .status(Booking.BookingStatus.CONFIRMED)
+                        .build())
+                .toList();
 
-        return convertToDTO(booking);
+        bookingGroupRepository.save(group);
+        bookingRepository.saveAll(bookings);
+        paymentRepository.save(payment);
+
+        bookings.forEach(this::publishCreated);
+
+        return convertToGroupDTO(group, bookings);
+    }
+
+    @Transactional(readOnly = true)
+    public BookingGroupDTO getGroupBooking(Long groupId, String userId) {
+        BookingGroup group = bookingGroupRepository.findByIdWithDetails(groupId)
+                .orElseThrow(() -> new RuntimeException("단체 예약을 찾을 수 없습니다"));
+
+        if (!group.getUser().getId().equals(userId)) {
+            throw new RuntimeException("예약 정보에 접근할 권한이 없습니다");
+        }
+
+        return convertToGroupDTO(group, bookingRepository.findByGroupIdWithDetails(groupId));
+    }
+
+    /**
+     * 단체 예약 전체 취소 (객실별 예약 취소 + 결제 1건 환불)
+     * 취소 조건은 개별 예약과 같음 (체크인 전, 체크인 7일 전까지)
+     */
+    @Transactional
+    public void cancelGroupBooking(Long groupId, String userId) {
+        // 단체 예약 행 잠금 후 상태 확인: 같은 단체 예약의 동시 취소는 커밋 순서대로 (뒤 요청은 취소된 상태를 봄)
+        BookingGroup group = bookingGroupRepository.findByIdForUpdate(groupId)
+                .orElseThrow(() -> new RuntimeException("단체 예약을 찾을 수 없습니다"));
+
+        if (!group.getUser().getId().equals(userId)) {
+            throw new RuntimeException("예약을 취소할 권한이 없습니다");
+        }
+
+        // 객실 스트라이프 → 예약 행 순으로 잠근 뒤 로드 (개별 취소/관리자 상태 변경과 같은 순서)
+        // 잠근 뒤 읽으므로 먼저 커밋된 체크인 등을 보고 판단 (스트라이프를 건너뛰는 큰 단체 예약도 예약 행 잠금으로 직렬화)
+        reservationLockManager.lockRoomsUntilTransactionEnds(bookingRepository.findRoomIdsByGroupId(groupId));
+        bookingRepository.lockIdsByGroupId(groupId);
+        List<Booking> bookings = bookingRepository.findByGroupIdWithDetails(groupId);
+
+        if (group.getStatus() == BookingGroup.GroupStatus.CANCELLED) {
+            throw new RuntimeException("이미 취소된 예약입니다");
+        }
+
+        // 이미 취소된 객실 예약은 건너뛰고, 나머지는 모두 체크인 전이어야 함
+        List<Booking> active = bookings.stream()
+                .filter(booking -> booking.getStatus() != Booking.BookingStatus.CANCELLED)
+                .toList();
+        if (active.stream().anyMatch(booking -> booking.getStatus() != Booking.BookingStatus.CONFIRMED)) {
+            throw new RuntimeException("체크인 전 예약만 취소할 수 있습니다");
+        }
+
+        long daysUntilCheckIn = ChronoUnit.DAYS.between(LocalDate.now(), group.getCheckInDate());
+        if (daysUntilCheckIn < 7) {
+            throw new RuntimeException("체크인 일주일 전까지만 취소할 수 있습니다");
+        }
+
+        // 변경 감지로 커밋 시 update (배치)
+        for (Booking booking : active) {
+            booking.setStatus(Booking.BookingStatus.CANCELLED);
+            publishCancelled(booking);
+        }
+        group.setStatus(BookingGroup.GroupStatus.CANCELLED);
+        if (group.getPayment() != null) {
+            group.getPayment().setStatus(Payment.PaymentStatus.REFUNDED);
+        }
     }
 
     @Transactional(readOnly = true)
     public List<BookingDTO> getUserBookings(String userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        return bookingRepository.findByUser(user).stream()
+        return bookingRepository.findByUserIdWithDetails(userId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<BookingDTO> getReviewableBookings(String userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        
         LocalDate today = LocalDate.now();
         LocalDate oneMonthAgo = today.minusMonths(1);
         
-        return bookingRepository.findByUser(user).stream()
-                .filter(booking -> {
-                    // 취소된 예약은 리뷰 작성 불가
-                    if (booking.getStatus() == Booking.BookingStatus.CANCELLED) {
-                        return false;
-                    }
-                    // 리뷰 가능 여부 판단: 날짜 기반 (체크아웃 후) + 상태 확인 (취소 아님)
-                    LocalDate checkOutDate = booking.getCheckOutDate();
-                    return checkOutDate.isBefore(today) && !checkOutDate.isBefore(oneMonthAgo);
-                })
-                .filter(booking -> !reviewRepository.existsByBookingId(booking.getId()))
+        // 리뷰 가능 여부 판단: 취소되지 않았고 체크아웃 후 한 달 이내이며 리뷰가 없는 예약 (쿼리 한 번)
+        return bookingRepository.findReviewableByUserId(userId, oneMonthAgo, today).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public BookingDTO getBookingById(Long id, String userId) {
-        Booking booking = bookingRepository.findById(id)
+        Booking booking = bookingRepository.findByIdWithDetails(id)
                 .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다"));
         
         if (!booking.getUser().getId().equals(userId)) {
@@ -152,13 +361,22 @@ public class BookingService {
 
     @Transactional
     public void cancelBooking(Long id, String userId) {
-        Booking booking = bookingRepository.findById(id)
+        // 객실 잠금을 먼저 잡고 예약은 행 잠금으로 로드 (잠금 전에 읽은 상태로 판단하면 동시 취소가 둘 다 통과함)
+        Long roomId = bookingRepository.findRoomIdById(id)
                 .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다"));
-        
+        reservationLockManager.lockRoomUntilTransactionEnds(roomId);
+        Booking booking = bookingRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다"));
+
         if (!booking.getUser().getId().equals(userId)) {
             throw new RuntimeException("예약을 취소할 권한이 없습니다");
         }
-        
+
+        // 단체 예약은 전체 단위로만 취소 (결제가 단체 예약에 1건이므로 일부 환불 불가)
+        if (booking.getGroup() != null) {
+            throw new RuntimeException("단체 예약에 포함된 예약은 단체 예약 취소로만 취소할 수 있습니다");
+        }
+
         if (booking.getStatus() == Booking.BookingStatus.CANCELLED) {
             throw new RuntimeException("이미 취소된 예약입니다");
         }
@@ -178,9 +396,13 @@ public class BookingService {
         }
         
         // 예약 취소 시 해당 예약과 연결된 리뷰 삭제
-        List<com.hotel.booking.review.entity.Review> reviews = reviewRepository.findByBookingId(booking.getId());
+        List<com.hotel.booking.review.entity.Review> reviews = reviewRepository.findByBookingIdForUpdate(booking.getId());
         if (!reviews.isEmpty()) {
             reviewRepository.deleteAll(reviews);
+            reviews.stream()
+                    .filter(com.hotel.booking.review.entity.Review::getIsPublic)
+                    .forEach(review -> eventBus.publish(new ReviewChanged(
+                            review.getId(), review.getRoom().getType(), review.getRating(), null)));
         }
         
         // 예약 취소 시 결제 상태를 환불(REFUNDED)로 변경
@@ -192,24 +414,110 @@ public class BookingService {
         
         booking.setStatus(Booking.BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+
+        // 커밋 후 가용성 인덱스에서 점유 구간 제거, 통계 롤업 점유 객실 수 차감
+        publishCancelled(booking);
+    }
+
+    private void validateDates(BookingRequest request) {
+        validateDates(request.getCheckInDate(), request.getCheckOutDate());
+    }
+
+    private void validateDates(LocalDate checkInDate, LocalDate checkOutDate) {
+        if (!checkInDate.isBefore(checkOutDate)) {
+            throw new RuntimeException("체크아웃 날짜는 체크인 날짜보다 이후여야 합니다");
+        }
+    }
+
+    /**
+     * 잠근 객실 중 [checkIn, checkOut)에 취소되지 않은 예약이 없는 활성 객실 (ID 순으로 최대 limit개)
+     * 행 잠금 뒤에 조회하므로 먼저 커밋된 예약이 항상 보임
+     * 타입/인원 조건도 잠근 행 기준으로 다시 확인 (후보는 잠금 전 캐시 목록에서 골랐으므로 그 사이 객실 정보가 바뀌었을 수 있음)
+     */
+    private List<Room> freeRooms(List<Room> locked, GroupBookingRequest request,
+                                 LocalDate checkIn, LocalDate checkOut, int limit) {
+        Set<Long> occupied = bookingRepository.findActiveStaysByRoomIds(
+                        locked.stream().map(Room::getId).toList(), checkIn, checkOut).stream()
+                .map(BookingStayDTO::getRoomId)
+                .collect(Collectors.toSet());
+        return locked.stream()
+                .filter(Room::getAvailable)
+                .filter(room -> room.getType().equals(request.getRoomType()))
+                .filter(room -> room.getCapacity() >= request.getGuestsPerRoom())
+                .filter(room -> !occupied.contains(room.getId()))
+                .sorted(Comparator.comparing(Room::getId))
+                .limit(limit)
+                .toList();
     }
 
+    /**
+     * 단체 예약 요청 안에서 같은 객실의 숙박 기간이 겹치는지 확인
+     */
+    private void validateNoOverlapWithinRequest(List<BookingRequest> items) {
+        Map<Long, List<BookingRequest>> byRoom = items.stream()
+                .collect(Collectors.groupingBy(BookingRequest::getRoomId));
+        for (List<BookingRequest> roomItems : byRoom.values()) {
+            List<BookingRequest> sorted = roomItems.stream()
+                    .sorted(Comparator.comparing(BookingRequest::getCheckInDate))
+                    .toList();
+            for (int i = 1; i < sorted.size(); i++) {
+                if (sorted.get(i).getCheckInDate().isBefore(sorted.get(i - 1).getCheckOutDate())) {
+                    throw new RuntimeException("같은 객실의 숙박 기간이 겹치는 예약이 요청에 포함되어 있습니다: 객실 "
+                            + sorted.get(i).getRoomId());
+                }
+            }
+        }
+    }
+
+    /**
+     * 예약(CONFIRMED)과 결제(PAID)를 양방향으로 연결해 생성 (저장 전, ID는 persist 시 시퀀스에서 할당)
+     */
+    private Booking newBooking(User user, Room room, BookingRequest request) {
+        long nights = ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate());
+        BigDecimal totalPrice = room.getPricePerNight().multiply(BigDecimal.valueOf(nights));
+
+        Booking booking = Booking.builder()
+                .user(user)
+                .room(room)
+                .checkInDate(request.getCheckInDate())
+                .checkOutDate(request.getCheckOutDate())
+                .guests(request.getGuests())
+                .totalPrice(totalPrice)
+                .status(Booking.BookingStatus.CONFIRMED)
+                .build();
+
+        Payment payment = Payment.builder()
+                .booking(booking)
+                .amount(totalPrice)
+                .method(request.getMethod())
+                .status(Payment.PaymentStatus.PAID)
+                .paymentDate(LocalDateTime.now())
+                .transactionId(UUID.randomUUID().toString())
+                .build();
+        booking.setPayment(payment);
+        return booking;
+    }
+
+    private void publishCreated(Booking booking) {
+        Room room = booking.getRoom();
+        eventBus.publish(new BookingCreated(booking.getId(), room.getId(), room.getType(),
+                booking.getCheckInDate(), booking.getCheckOutDate(),
+                booking.getTotalPrice(), booking.getCreatedAt().toLocalDate()));
+    }
+
+    private void publishCancelled(Booking booking) {
+        Room room = booking.getRoom();
+        eventBus.publish(new BookingCancelled(booking.getId(), room.getId(), room.getType(),
+                booking.getCheckInDate(), booking.getCheckOutDate()));
+    }
 
     private BookingDTO convertToDTO(Booking booking) {
-        // 결제 정보 조회
-        Optional<Payment> paymentOpt = paymentRepository.findByBookingId(booking.getId());
+        // 결제 정보 (조회 쿼리에서 함께 로드됨, 단체 예약에 속한 예약은 단체 예약의 결제)
         PaymentDTO paymentDTO = null;
-        if (paymentOpt.isPresent()) {
-            Payment payment = paymentOpt.get();
-            paymentDTO = PaymentDTO.builder()
-                    .id(payment.getId())
-                    .bookingId(payment.getBooking().getId())
-                    .amount(payment.getAmount())
-                    .method(payment.getMethod())
-                    .status(payment.getStatus())
-                    .paymentDate(payment.getPaymentDate())
-                    .transactionId(payment.getTransactionId())
-                    .build();
+        if (booking.getPayment() != null) {
+            paymentDTO = convertToPaymentDTO(booking.getPayment(), booking.getId(), null);
+        } else if (booking.getGroup() != null && booking.getGroup().getPayment() != null) {
+            paymentDTO = convertToPaymentDTO(booking.getGroup().getPayment(), null, booking.getGroup().getId());
         }
 
         return BookingDTO.builder()
@@ -226,7 +534,39 @@ public class BookingService {
                 .specialRequests(booking.getSpecialRequests())
                 .createdAt(booking.getCreatedAt())
                 .payment(paymentDTO)
+                .groupId(booking.getGroup() != null ? booking.getGroup().getId() : null)
+                .build();
+    }
+
+    private BookingGroupDTO convertToGroupDTO(BookingGroup group, List<Booking> bookings) {
+        Payment payment = group.getPayment();
+        return BookingGroupDTO.builder()
+                .id(group.getId())
+                .userId(group.getUser().getId())
+                .roomType(group.getRoomType())
+                .quantity(group.getQuantity())
+                .checkInDate(group.getCheckInDate())
+                .checkOutDate(group.getCheckOutDate())
+                .totalPrice(group.getTotalPrice())
+                .status(group.getStatus())
+                .createdAt(group.getCreatedAt())
+                .payment(payment != null ? convertToPaymentDTO(payment, null, group.getId()) : null)
+                .bookings(bookings.stream()
+                        .map(this::convertToDTO)
+                        .collect(Collectors.toList()))
                 .build();
     }
-}
 
+    private PaymentDTO convertToPaymentDTO(Payment payment, Long bookingId, Long groupId) {
+        return PaymentDTO.builder()
+                .id(payment.getId())
+                .bookingId(bookingId)
+                .groupId(groupId)
+                .amount(payment.getAmount())
+                .method(payment.getMethod())
+                .status(payment.getStatus())
+                .paymentDate(payment.getPaymentDate())
+                .transactionId(payment.getTransactionId())
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.hotel.booking.booking.service;
+
+import com.hotel.booking.booking.dto.ReservationLockStatsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 객실 ID 기준 스트라이프 잠금 (JVM 내부)
+ * - 같은 객실에 대한 예약 생성/취소를 DB 잠금 전에 JVM 안에서 먼저 줄 세움
+ * - 객실 ID를 고정 개수의 잠금으로 나누므로 인기 객실의 경합이 다른 객실로 번지지 않음
+ * - DB 행 잠금(SELECT ... FOR UPDATE)이 최종 보장이며, 이 잠금은 DB 잠금 대기/재시도를 줄이는 용도
+ * - 여러 객실 요청이 스트라이프의 1/8을 넘게 차지하면 스트라이프를 잡지 않음 (DB 행 잠금만 사용)
+ *   단체/일괄 예약 하나가 거의 모든 스트라이프를 잡아 무관한 객실의 단건 예약까지 막는 것을 방지
+ */
+@Component
+public class ReservationLockManager {
+    // 여러 객실 요청 하나가 잡을 수 있는 스트라이프 수 = 전체 / 8
+    private static final int MULTI_ROOM_STRIPE_SHARE = 8;
+
+    private final ReentrantLock[] stripes;
+    private final int maxStripesPerRequest;
+    private final long timeoutMs;
+
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong contended = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong bypassed = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public ReservationLockManager(
+            @Value("${booking.lock.stripes:64}") int stripeCount,
+            @Value("${booking.lock.timeout-ms:10000}") long timeoutMs) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.maxStripesPerRequest = Math.max(1, stripeCount / MULTI_ROOM_STRIPE_SHARE);
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * 객실 잠금을 획득하고 현재 트랜잭션이 끝날 때(커밋/롤백 후) 해제
+     * 커밋 전에 풀리면 다음 요청이 아직 커밋되지 않은 예약을 못 볼 수 있으므로 트랜잭션 종료까지 유지
+     */
+    public void lockRoomUntilTransactionEnds(Long roomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("객실 잠금은 트랜잭션 안에서만 사용할 수 있습니다");
+        }
+        ReentrantLock lock = acquire(roomId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 여러 객실 잠금을 획득하고 현재 트랜잭션이 끝날 때 해제 (단체 예약용)
+     * 스트라이프 번호 오름차순으로 획득하므로 객실 구성이 겹치는 요청끼리 교착 상태가 생기지 않음
+     * (객실 ID 순서로 잡으면 서로 다른 객실이 같은 스트라이프를 공유할 때 순서가 어긋날 수 있음)
+     * 스트라이프가 maxStripesPerRequest개를 넘으면 잡지 않으므로 호출한 쪽은 객실 ID 순 DB 행 잠금으로 보장해야 함
+     * @return 스트라이프를 잡았으면 true, 객실이 많아 DB 행 잠금에 맡겼으면 false
+     */
+    public boolean lockRoomsUntilTransactionEnds(Collection<Long> roomIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("객실 잠금은 트랜잭션 안에서만 사용할 수 있습니다");
+        }
+        int[] indexes = roomIds.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        if (indexes.length > maxStripesPerRequest) {
+            bypassed.incrementAndGet();
+            return false;
+        }
+        List<ReentrantLock> acquired = new ArrayList<>(indexes.length);
+        try {
+            for (int index : indexes) {
+                acquired.add(acquireStripe(index));
+            }
+        } catch (RuntimeException e) {
+            acquired.forEach(ReentrantLock::unlock);
+            throw e;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                acquired.forEach(ReentrantLock::unlock);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 객실 잠금 안에서 작업 실행 (트랜잭션 밖에서 사용)
+     */
+    public <T> T withRoomLock(Long roomId, Supplier<T> action) {
+        ReentrantLock lock = acquire(roomId);
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public ReservationLockStatsDTO getStats() {
+        long acquired = acquisitions.get();
+        long contendedCount = contended.get();
+        return ReservationLockStatsDTO.builder()
+                .stripes(stripes.length)
+                .acquisitions(acquired)
+                .contended(contendedCount)
+                .timeouts(timeouts.get())
+                .bypassed(bypassed.get())
+                .contentionRate(acquired == 0 ? 0.0 : (double) contendedCount / acquired)
+                .averageWaitMs(contendedCount == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / contendedCount)
+                .maxWaitMs(maxWaitNanos.get() / 1_000_000.0)
+                .build();
+    }
+
+    private ReentrantLock acquire(Long roomId) {
+        return acquireStripe(stripeOf(roomId));
+    }
+
+    private ReentrantLock acquireStripe(int index) {
+        ReentrantLock lock = stripes[index];
+        if (!lock.tryLock()) {
+            contended.incrementAndGet();
+            long start = System.nanoTime();
+            boolean locked;
+            try {
+                locked = lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("예약 처리 중 요청이 중단되었습니다", e);
+            }
+            long waited = System.nanoTime() - start;
+            totalWaitNanos.addAndGet(waited);
+            maxWaitNanos.accumulate(waited);
+            if (!locked) {
+                timeouts.incrementAndGet();
+                throw new RuntimeException("예약 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        acquisitions.incrementAndGet();
+        return lock;
+    }
+
+    private int stripeOf(Long roomId) {
+        int h = Long.hashCode(roomId);
+        h ^= (h >>> 16);
+        h *= 0x45d9f3b;
+        h ^= (h >>> 16);
+        return Math.floorMod(h, stripes.length);
+    }
+}
@@ -0,0 +1,96 @@
+package com.hotel.booking.common.config;
+
+import com.hotel.booking.admin.service.DashboardStreamService;
+import com.hotel.booking.booking.service.ReservationLockManager;
+import com.hotel.booking.room.service.RoomCatalogCache;
+import com.hotel.booking.room.service.RoomJsonCache;
+import com.hotel.booking.user.entity.MailOutbox;
+import com.hotel.booking.user.service.MailService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애플리케이션 자체 지표 (Prometheus: /actuator/prometheus)
+ * - 서비스 메서드 타이머는 @Timed (management.observations.annotations.enabled)
+ * - Hikari 풀, Hibernate 통계, HTTP 요청 지표는 스프링 부트 자동 설정
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder reservationLockMetrics(ReservationLockManager lockManager) {
+        return registry -> {
+            FunctionCounter.builder("hotel.reservation.lock.acquisitions", lockManager,
+                            m -> m.getStats().getAcquisitions())
+                    .description("객실 잠금 획득 횟수")
+                    .register(registry);
+            FunctionCounter.builder("hotel.reservation.lock.contended", lockManager,
+                            m -> m.getStats().getContended())
+                    .description("대기가 필요했던 잠금 획득 횟수")
+                    .register(registry);
+            FunctionCounter.builder("hotel.reservation.lock.timeouts", lockManager,
+                            m -> m.getStats().getTimeouts())
+                    .description("잠금 대기 시간 초과 횟수")
+                    .register(registry);
+            FunctionCounter.builder("hotel.reservation.lock.bypassed", lockManager,
+                            m -> m.getStats().getBypassed())
+                    .description("객실이 많아 스트라이프 없이 DB 행 잠금만 사용한 여러 객실 요청 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder mailOutboxMetrics(MailService mailService) {
+        return registry -> {
+            Gauge.builder("hotel.mail.outbox.pending", mailService,
+                            s -> s.countByStatus(MailOutbox.MailStatus.PENDING))
+                    .description("발송 대기 중인 메일 수")
+                    .register(registry);
+            Gauge.builder("hotel.mail.outbox.failed", mailService,
+                            s -> s.countByStatus(MailOutbox.MailStatus.FAILED))
+                    .description("최종 발송 실패 메일 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder roomCatalogCacheMetrics(RoomCatalogCache catalogCache, RoomJsonCache jsonCache) {
+        return registry -> {
+            FunctionCounter.builder("hotel.room.catalog.cache", catalogCache, RoomCatalogCache::getHits)
+                    .description("객실 목록 응답 캐시 조회 수")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("hotel.room.catalog.cache", catalogCache, RoomCatalogCache::getMisses)
+                    .description("객실 목록 응답 캐시 조회 수")
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("hotel.room.catalog.version", catalogCache, RoomCatalogCache::getVersion)
+                    .description("객실 카탈로그 버전 (객실/예약/리뷰 변경 시 증가)")
+                    .register(registry);
+            FunctionCounter.builder("hotel.room.json.fragments", jsonCache, RoomJsonCache::getHits)
+                    .description("객실 JSON 조각 캐시 조회 수")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("hotel.room.json.fragments", jsonCache, RoomJsonCache::getMisses)
+                    .description("객실 JSON 조각 캐시 조회 수")
+                    .tag("result", "miss")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder dashboardStreamMetrics(DashboardStreamService dashboardStream) {
+        return registry -> {
+            Gauge.builder("hotel.admin.dashboard.connections", dashboardStream, DashboardStreamService::getConnectionCount)
+                    .description("대시보드 스트림 연결 수")
+                    .register(registry);
+            FunctionCounter.builder("hotel.admin.dashboard.recomputations", dashboardStream,
+                            DashboardStreamService::getRecomputations)
+                    .description("대시보드 재계산 횟수 (연결 수와 무관)")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.hotel.booking.common.config;
+
+import com.hotel.booking.common.util.QueryCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 SQL 실행 수 집계 및 예산 초과 감지
+ * - 엔드포인트별 실행 수 분포: hotel.http.queries
+ * - 예산 초과 시 경고 로그 + hotel.query.budget.exceeded 카운터
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long count = QueryCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                String endpoint = request.getMethod() + " " + pattern;
+                meterRegistry.summary("hotel.http.queries", "endpoint", endpoint).record(count);
+
+                int budget = properties.budgetFor(endpoint);
+                if (count > budget) {
+                    meterRegistry.counter("hotel.query.budget.exceeded", "endpoint", endpoint).increment();
+                    log.warn("쿼리 예산 초과: {} - {}회 실행 (예산 {}회)", endpoint, count, budget);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.hotel.booking.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청당 SQL 실행 수 예산
+ * endpoints 키: "HTTP 메서드 + 공백 + 핸들러 경로 패턴" (예: "GET /api/bookings/{id}")
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+    private boolean enabled = true;
+    private int defaultBudget = 20;
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
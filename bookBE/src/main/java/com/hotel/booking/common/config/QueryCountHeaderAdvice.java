@@ -0,0 +1,35 @@
+package com.hotel.booking.common.config;
+
+import com.hotel.booking.common.util.QueryCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 헤더 X-Query-Count: 응답 본문을 쓰기 직전까지 실행된 SQL 수 (prod 프로필 제외)
+ */
+@RestControllerAdvice
+@Profile("!prod")
+@RequiredArgsConstructor
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+    private final QueryBudgetProperties properties;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set("X-Query-Count", String.valueOf(QueryCounter.current()));
+        return body;
+    }
+}
@@ -0,0 +1,41 @@
+package com.hotel.booking.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 기반 페이지 응답
+ * nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회 (hasNext = false면 마지막 페이지)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_SIZE로 제한
+     */
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * size + 1건을 조회한 결과로 페이지 생성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, Long> idExtractor, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        List<T> items = pageRows.stream().map(mapper).toList();
+        Long nextCursor = hasNext ? idExtractor.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+}
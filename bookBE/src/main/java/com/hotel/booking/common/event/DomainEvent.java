@@ -0,0 +1,8 @@
+package com.hotel.booking.common.event;
+
+/**
+ * 도메인 이벤트 (트랜잭션 커밋 후 DomainEventBus로 전달)
+ * 이벤트는 불변이며 엔티티 대신 식별자와 필요한 값만 담음
+ */
+public interface DomainEvent {
+}
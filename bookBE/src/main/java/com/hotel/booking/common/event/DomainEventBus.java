@@ -0,0 +1,344 @@
+package com.hotel.booking.common.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 프로세스 내 도메인 이벤트 버스
+ * - publish: 트랜잭션 커밋 후 전달 (롤백되면 버려짐)
+ * - 동기 구독자(가용성 인덱스, 평점 캐시, 카탈로그 캐시): 커밋 직후 발행 스레드에서 바로 반영 (응답 전에 자기 변경이 보임)
+ * - 비동기 구독자(통계 롤업, 대시보드): 크기 제한 큐 → 디스패처 스레드 하나가 최대 batch-size개씩 순서대로 전달
+ * - 큐가 가득 차도 발행 스레드는 기다리지 않음: 이벤트를 버리고 디스패처가 큐를 비운 뒤 비동기 구독자를 DB 기준으로 재동기화(resync)
+ * - 커밋 게이트: 이벤트를 발행한 트랜잭션은 커밋 직전부터 큐에 넣을 때까지 읽기 잠금을 잡음
+ *   재동기화/종료는 쓰기 잠금 안에서 하므로 "커밋됐지만 아직 큐에 없는" 이벤트가 없음
+ *   (재동기화 결과에 포함된 이벤트가 다시 delta로 전달되거나, 종료 중 디스패처와 발행 스레드가 동시에 전달하지 않음)
+ *   게이트는 커밋이 잠시 끊길 때까지 최대 GATE_WAIT만 기다림: 쓰기가 계속 몰리면 재동기화는 RESYNC_RETRY 뒤 다시 시도
+ * - 지표: 큐 길이, 묶음 크기, 버린 이벤트 수, 재동기화 수, 구독자별 처리 시간/전달 수/실패 수
+ */
+@Component
+@Slf4j
+public class DomainEventBus {
+    private static final long GATE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long RESYNC_RETRY_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final BlockingQueue<DomainEvent> queue;
+    private final int maxBatchSize;
+
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter resyncs;
+    private final DistributionSummary batchSizes;
+    private final List<ListenerMeters> syncListeners = new ArrayList<>();
+    private final List<ListenerMeters> asyncListeners = new ArrayList<>();
+    // 큐가 가득 차 이벤트를 버렸거나 재동기화 요청이 있음 (디스패처가 비동기 구독자 재동기화)
+    private final AtomicBoolean resyncPending = new AtomicBoolean();
+    private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+    // 종료 후 발행 스레드에서 바로 전달할 때 구독자 호출을 한 번에 하나로 (비동기 구독자는 동시 호출을 가정하지 않음)
+    private final ReentrantLock directDelivery = new ReentrantLock();
+
+    private volatile boolean running;
+    // 디스패처 종료 후 남은 이벤트까지 전달 완료 (이후 발행은 발행 스레드에서 바로 전달)
+    private volatile boolean stopped;
+    private Thread dispatcher;
+
+    public DomainEventBus(List<DomainEventListener> listeners, MeterRegistry meterRegistry,
+                          @Value("${domain-events.queue-capacity:10000}") int queueCapacity,
+                          @Value("${domain-events.batch-size:256}") int maxBatchSize) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+
+        this.published = Counter.builder("hotel.domain.events.published")
+                .description("발행된 도메인 이벤트 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("hotel.domain.events.dropped")
+                .description("큐가 가득 차 버린 이벤트 수 (비동기 구독자 재동기화로 복구)")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("hotel.domain.events.resyncs")
+                .description("이벤트를 버린 뒤 비동기 구독자를 재동기화한 횟수")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("hotel.domain.events.batch.size")
+                .description("한 번에 전달한 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("hotel.domain.events.queue", queue, BlockingQueue::size)
+                .description("전달 대기 중인 이벤트 수")
+                .register(meterRegistry);
+
+        for (DomainEventListener listener : listeners) {
+            String name = ClassUtils.getUserClass(listener).getSimpleName();
+            ListenerMeters meters = new ListenerMeters(listener, name,
+                    Timer.builder("hotel.domain.events.listener")
+                            .description("구독자 묶음 처리 시간")
+                            .tag("listener", name)
+                            .register(meterRegistry),
+                    Counter.builder("hotel.domain.events.delivered")
+                            .description("구독자에게 전달한 이벤트 수")
+                            .tag("listener", name)
+                            .register(meterRegistry),
+                    Counter.builder("hotel.domain.events.failures")
+                            .description("구독자 처리 실패 묶음 수")
+                            .tag("listener", name)
+                            .register(meterRegistry));
+            (listener.synchronous() ? syncListeners : asyncListeners).add(meters);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        dispatcher = Thread.ofPlatform().name("domain-events").daemon().start(this::dispatchLoop);
+        log.info("도메인 이벤트 버스 시작: 동기 구독자 {}, 비동기 구독자 {}",
+                syncListeners.stream().map(ListenerMeters::name).toList(),
+                asyncListeners.stream().map(ListenerMeters::name).toList());
+    }
+
+    /**
+     * 종료 시 디스패처가 남은 이벤트를 모두 전달할 때까지 기다린 뒤 종료
+     * 디스패처가 끝날 때까지 발행된 이벤트는 계속 큐로 보내고, 끝난 뒤 남은 것은 여기서 전달
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+        if (dispatcher.isAlive()) {
+            log.warn("도메인 이벤트 디스패처가 종료되지 않았습니다. 남은 이벤트 {}건", queue.size());
+            return;
+        }
+        boolean gated = closeGate(TimeUnit.SECONDS.toNanos(10));
+        if (!gated) {
+            log.warn("종료 중 커밋 게이트를 닫지 못했습니다. 남은 이벤트를 게이트 없이 전달합니다");
+        }
+        directDelivery.lock();
+        try {
+            stopped = true;
+            List<DomainEvent> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                deliver(asyncListeners, List.copyOf(remaining));
+            }
+        } finally {
+            directDelivery.unlock();
+            if (gated) {
+                commitGate.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 이벤트 발행 (트랜잭션 안이면 커밋 후, 밖이면 즉시)
+     * 트랜잭션 안이면 커밋 직전부터 완료까지 커밋 게이트 읽기 잠금을 잡음
+     */
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitGate.readLock().lock();
+            try {
+                dispatch(event);
+            } finally {
+                commitGate.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean gated;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitGate.readLock().lock();
+                gated = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                dispatch(event);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (gated) {
+                    gated = false;
+                    commitGate.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    /**
+     * 비동기 구독자 재동기화 요청 (디스패처가 커밋 게이트를 닫고 실행, 이미 요청되어 있으면 한 번만)
+     * 구독자가 직접 DB에서 다시 계산하면 그 사이 커밋된 이벤트가 중복 반영되거나 빠질 수 있으므로 이 경로를 사용
+     */
+    public void requestResync() {
+        resyncPending.set(true);
+    }
+
+    /**
+     * 이벤트를 발행하는 커밋을 잠시 멈추고 action 실행 (동기 구독자가 DB 기준으로 다시 로드할 때)
+     * 실행 중 DB에서 읽은 상태에는 이미 전달된 이벤트만 반영되어 있으므로 이후 이벤트만 증분으로 반영하면 됨
+     * 커밋 처리 중인 스레드(동기 구독자 안 등)에서는 게이트를 닫을 수 없으므로 호출 불가
+     * 커밋이 계속 몰려 GATE_WAIT 안에 게이트를 닫지 못하면 IllegalStateException
+     */
+    public <T> T withCommitsPaused(Supplier<T> action) {
+        if (commitGate.getReadHoldCount() > 0) {
+            throw new IllegalStateException("커밋 처리 중에는 커밋 게이트를 닫을 수 없습니다");
+        }
+        try {
+            if (!closeGate(GATE_WAIT_NANOS)) {
+                throw new IllegalStateException("커밋이 계속되어 커밋 게이트를 닫지 못했습니다");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("커밋 게이트 대기 중 인터럽트", e);
+        }
+        try {
+            return action.get();
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 동기 구독자에게 바로 전달하고 비동기 구독자용 큐에 추가 (발행 스레드를 막지 않음)
+     * 커밋 게이트 읽기 잠금 안에서 호출됨
+     */
+    void dispatch(DomainEvent event) {
+        published.increment();
+        List<DomainEvent> events = List.of(event);
+        deliver(syncListeners, events);
+        if (asyncListeners.isEmpty()) {
+            return;
+        }
+        if (stopped) {
+            // 디스패처 종료 후에는 발행 스레드에서 바로 전달
+            directDelivery.lock();
+            try {
+                deliver(asyncListeners, events);
+            } finally {
+                directDelivery.unlock();
+            }
+            return;
+        }
+        if (!queue.offer(event)) {
+            dropped.increment();
+            if (resyncPending.compareAndSet(false, true)) {
+                log.warn("도메인 이벤트 큐가 가득 차 이벤트를 버립니다. 비동기 구독자를 재동기화합니다");
+            }
+        }
+    }
+
+    private void dispatchLoop() {
+        List<DomainEvent> batch = new ArrayList<>(maxBatchSize);
+        long nextResyncAt = System.nanoTime();
+        while (running || !queue.isEmpty()) {
+            try {
+                if (resyncPending.get() && System.nanoTime() - nextResyncAt >= 0) {
+                    if (resyncBehindGate()) {
+                        continue;
+                    }
+                    // 게이트를 닫지 못함: 그동안 큐의 이벤트는 계속 전달하고 나중에 다시 시도
+                    nextResyncAt = System.nanoTime() + RESYNC_RETRY_NANOS;
+                }
+                DomainEvent first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                batchSizes.record(batch.size());
+                deliver(asyncListeners, List.copyOf(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<ListenerMeters> listeners, List<DomainEvent> events) {
+        for (ListenerMeters meters : listeners) {
+            try {
+                meters.timer().record(() -> meters.listener().onEvents(events));
+                meters.delivered().increment(events.size());
+            } catch (RuntimeException e) {
+                meters.failures().increment();
+                log.error("도메인 이벤트 처리 실패: listener={}, events={}", meters.name(), events.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 커밋 게이트를 닫고 큐를 비운 뒤 재동기화 (게이트를 GATE_WAIT 안에 닫지 못하면 false, 요청은 남겨 둠)
+     * 게이트가 닫혀 있는 동안 이벤트를 발행하는 트랜잭션은 커밋하지 못하므로
+     * 큐에 있던 이벤트와 이미 커밋된 이벤트는 모두 재동기화 결과에 포함되고, 이후 이벤트만 delta로 전달됨
+     */
+    private boolean resyncBehindGate() throws InterruptedException {
+        if (!closeGate(GATE_WAIT_NANOS)) {
+            log.warn("커밋이 계속되어 재동기화를 미룹니다");
+            return false;
+        }
+        try {
+            resyncPending.set(false);
+            queue.clear();
+            resync();
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+        return true;
+    }
+
+    /**
+     * 커밋 게이트 쓰기 잠금 획득 (최대 timeoutNanos, 못 잡으면 false)
+     * tryLock은 대기열에 서지 않아 커밋 중인 트랜잭션의 읽기 잠금을 막지 않음
+     * (대기 중인 쓰기 잠금이 새 읽기 잠금을 막으면 DB 잠금을 기다리는 트랜잭션과 서로 기다릴 수 있음)
+     * 대신 커밋이 끊이지 않으면 잠금을 못 잡을 수 있으므로 기다리는 시간을 제한
+     */
+    private boolean closeGate(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (!commitGate.writeLock().tryLock()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return true;
+    }
+
+    private void resync() {
+        resyncs.increment();
+        for (ListenerMeters meters : asyncListeners) {
+            try {
+                meters.listener().resync();
+            } catch (RuntimeException e) {
+                meters.failures().increment();
+                log.error("도메인 이벤트 구독자 재동기화 실패: listener={}", meters.name(), e);
+            }
+        }
+    }
+
+    private record ListenerMeters(DomainEventListener listener, String name,
+                                  Timer timer, Counter delivered, Counter failures) {
+    }
+}
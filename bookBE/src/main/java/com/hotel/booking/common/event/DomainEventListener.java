@@ -0,0 +1,30 @@
+package com.hotel.booking.common.event;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트 구독자
+ * - 동기 구독자: 커밋 직후 발행 스레드에서 이벤트 하나씩 호출 (같은 요청의 다음 조회에 반영되어야 하는 상태)
+ * - 비동기 구독자: 디스패처 스레드 하나에서 큐 순서대로 묶음(batch) 단위로 호출
+ * - 관심 없는 이벤트는 무시, 예외는 버스가 기록 후 다음 구독자로 진행
+ * - 호출 순서는 @Order: 원본 상태(STATE_ORDER)를 먼저 갱신한 뒤 파생 뷰(VIEW_ORDER) 갱신
+ */
+public interface DomainEventListener {
+    int STATE_ORDER = 0;
+    int VIEW_ORDER = 100;
+
+    void onEvents(List<DomainEvent> events);
+
+    /**
+     * 커밋 직후 발행 스레드에서 받을지 여부 (빠르게 끝나는 인메모리 갱신만)
+     */
+    default boolean synchronous() {
+        return false;
+    }
+
+    /**
+     * 비동기 구독자: 큐가 가득 차 이벤트가 버려졌을 때 DB 기준으로 다시 맞춤
+     */
+    default void resync() {
+    }
+}
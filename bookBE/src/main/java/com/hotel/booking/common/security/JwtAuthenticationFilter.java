@@ -1,6 +1,10 @@
 package com.hotel.booking.common.security;
 
 import com.hotel.booking.common.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +24,7 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -38,10 +43,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String result = "success";
 
-            if (jwtUtil.validateToken(token)) {
-                String id = jwtUtil.getIdFromToken(token);
-                String role = jwtUtil.getRoleFromToken(token);
+            try {
+                // 토큰 한 번 검증 후 클레임에서 id/role 추출
+                Claims claims = jwtUtil.parseClaims(token);
+                String id = claims.getSubject();
+                String role = claims.get("role", String.class);
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -51,6 +60,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         );
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+            } catch (JwtException | IllegalArgumentException e) {
+                // 유효하지 않은 토큰: 인증 정보 없이 진행
+                result = "invalid";
+            } finally {
+                // JWT 검증 시간 (result: success / invalid)
+                sample.stop(meterRegistry.timer("hotel.jwt.authentication", "result", result));
             }
         }
 
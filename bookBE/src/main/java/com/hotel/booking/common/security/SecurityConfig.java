@@ -1,5 +1,6 @@
 package com.hotel.booking.common.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,13 +36,17 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답의 비동기/에러 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         // Swagger 경로를 가장 먼저 허용
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/swagger-ui/index.html").permitAll()
                         .requestMatchers("/v3/api-docs", "/v3/api-docs/**", "/v3/api-docs.yaml", "/v3/api-docs.yaml/**").permitAll()
                         // 공개 API
                         .requestMatchers("/api/auth/**", "/api/rooms", "/api/rooms/**", "/api/notices").permitAll()
-                        // 관리자 API
-                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        // 헬스 체크
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        // 관리자 API (Prometheus 수집도 관리자 토큰 필요, 쿼리 수/캐시 적중률 등 내부 지표 노출 방지)
+                        .requestMatchers("/api/admin/**", "/actuator/**").hasRole("ADMIN")
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -1,13 +1,20 @@
 package com.hotel.booking.common.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 
 @Component
@@ -18,8 +25,26 @@ public class JwtUtil {
     @Value("${jwt.expiration:2592000000}") // 30 days (30 * 24 * 60 * 60 * 1000)
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    @Value("${jwt.cache-size:10000}") // 검증된 토큰 캐시 최대 개수 (0이면 캐시 사용 안 함)
+    private int cacheSize;
+
+    // 서명 키와 파서는 불변이므로 시작 시 한 번만 생성
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // 최근 검증된 토큰의 클레임 (키: 토큰 문자열, 최대 cacheSize개, 토큰 만료 시각에 제거)
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(Math.max(cacheSize, 0))
+                .expireAfter(Expiry.<String, Claims>creating((token, claims) -> untilExpiration(claims)))
+                .build();
     }
 
     public String generateToken(String id, String role) {
@@ -31,7 +56,7 @@ public class JwtUtil {
                 .claim("role", role)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -45,7 +70,7 @@ public class JwtUtil {
                 .claim("userId", userId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -53,13 +78,22 @@ public class JwtUtil {
         return expiration;
     }
 
+    /**
+     * 토큰 서명/만료를 검증하고 클레임 반환
+     * - 최근 검증된 토큰은 캐시된 클레임을 사용 (만료 시각에 캐시에서 빠지므로 이후에는 다시 검증하여 예외 발생)
+     * - 검증에 실패한 토큰은 캐시하지 않음
+     * @throws JwtException 서명 불일치, 만료, 형식 오류
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    public Claims parseClaims(String token) {
+        if (cacheSize <= 0 || token == null) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
+        return verifiedTokens.get(token, key -> parser.parseSignedClaims(key).getPayload());
+    }
+
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public String getIdFromToken(String token) {
@@ -67,33 +101,30 @@ public class JwtUtil {
     }
 
     public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("role", String.class);
+        return parseClaims(token).get("role", String.class);
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("userId", Long.class);
+        return parseClaims(token).get("userId", Long.class);
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (Exception e) {
             return false;
         }
     }
-}
 
+    /**
+     * 캐시 보관 기간: 토큰 만료 시각까지 (exp 클레임이 없으면 크기 제한으로만 제거)
+     */
+    private static Duration untilExpiration(Claims claims) {
+        Date expiresAt = claims.getExpiration();
+        if (expiresAt == null) {
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+        return Duration.ofMillis(expiresAt.getTime() - System.currentTimeMillis());
+    }
+}
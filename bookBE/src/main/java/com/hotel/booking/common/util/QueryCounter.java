@@ -0,0 +1,37 @@
+package com.hotel.booking.common.util;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수 (요청/테스트 단위 쿼리 예산 확인용)
+ * DataSourceProxyConfig의 리스너가 실행마다 increment를 호출하며, start 전에는 세지 않음
+ */
+public final class QueryCounter {
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    /**
+     * 집계 종료 후 실행 횟수 반환
+     */
+    public static long stop() {
+        long count = current();
+        COUNT.remove();
+        return count;
+    }
+
+    public static long current() {
+        long[] count = COUNT.get();
+        return count != null ? count[0] : 0;
+    }
+
+    public static void increment() {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.hotel.booking.notice.controller;
 import com.hotel.booking.notice.dto.NoticeDTO;
 import com.hotel.booking.notice.service.NoticeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,9 +15,16 @@ import java.util.List;
 public class NoticeController {
     private final NoticeService noticeService;
 
+    /**
+     * 공개 공지 목록
+     * ETag를 지정한 ResponseEntity는 Spring MVC가 If-None-Match와 비교해 일치하면 본문 없이 304로 응답
+     */
     @GetMapping
     public ResponseEntity<List<NoticeDTO>> getAllNotices() {
-        return ResponseEntity.ok(noticeService.getAllNotices());
+        NoticeService.NoticeSnapshot snapshot = noticeService.getSnapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(snapshot.notices());
     }
 }
-
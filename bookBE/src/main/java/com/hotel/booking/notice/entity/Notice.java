@@ -1,6 +1,8 @@
 package com.hotel.booking.notice.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,6 +13,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "notices")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "notice") // 2차 캐시 (관리자 수정 시 Hibernate가 갱신)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
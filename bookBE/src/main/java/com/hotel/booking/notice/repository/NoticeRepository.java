@@ -1,13 +1,29 @@
 package com.hotel.booking.notice.repository;
 
 import com.hotel.booking.notice.entity.Notice;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "notice-queries")
+    })
     List<Notice> findAllByOrderByImportantDescCreatedAtDesc();
+
+    /**
+     * 관리자 공지사항 목록 키셋 페이지 (id 내림차순, cursor보다 작은 id부터)
+     */
+    @Query("SELECT n FROM Notice n WHERE (:cursor IS NULL OR n.id < :cursor) ORDER BY n.id DESC")
+    List<Notice> findPageForAdmin(@Param("cursor") Long cursor, Limit limit);
 }
 
@@ -1,25 +1,117 @@
 package com.hotel.booking.notice.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.booking.common.util.TransactionCallbacks;
 import com.hotel.booking.notice.dto.NoticeDTO;
 import com.hotel.booking.notice.entity.Notice;
 import com.hotel.booking.notice.repository.NoticeRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 공개 공지사항 피드
+ * - 현재 노출 대상(공개 + 게시 기간 내) 공지를 불변 스냅샷으로 보관, 조회 시 DB 접근 없음
+ * - 관리자 공지 작성/수정/삭제/공개 전환 시 커밋 후 재생성, 날짜가 바뀌면 재생성
+ * - 스냅샷 내용의 해시를 strong ETag로 제공 (304 Not Modified 처리용)
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class NoticeService {
     private final NoticeRepository noticeRepository;
+    private final ObjectMapper objectMapper;
 
-    @Transactional(readOnly = true)
+    private volatile NoticeSnapshot snapshot;
+    // 재생성은 DB 조회를 포함하므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 고정 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 현재 노출 중인 공지 목록 (중요 공지 우선, 최신순)
+     */
     public List<NoticeDTO> getAllNotices() {
-        return noticeRepository.findAllByOrderByImportantDescCreatedAtDesc().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return getSnapshot().notices();
+    }
+
+    /**
+     * 현재 스냅샷 (날짜가 바뀌었으면 재생성)
+     */
+    public NoticeSnapshot getSnapshot() {
+        NoticeSnapshot current = snapshot;
+        if (current == null || !current.date().equals(LocalDate.now())) {
+            return rebuild();
+        }
+        return current;
+    }
+
+    /**
+     * 공지 변경 트랜잭션 커밋 후 스냅샷 재생성
+     */
+    public void refreshAfterCommit() {
+        TransactionCallbacks.afterCommit(this::rebuild);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * 자정에 게시 시작/종료일 경계 반영
+     */
+    @Scheduled(cron = "${notice.feed.refresh-cron:0 0 0 * * *}")
+    public void refreshDaily() {
+        rebuild();
+    }
+
+    public NoticeSnapshot rebuild() {
+        lock.lock();
+        try {
+            LocalDate today = LocalDate.now();
+            List<NoticeDTO> notices = noticeRepository.findAllByOrderByImportantDescCreatedAtDesc().stream()
+                    .filter(notice -> isVisible(notice, today))
+                    .map(this::convertToDTO)
+                    .toList();
+            NoticeSnapshot rebuilt = new NoticeSnapshot(notices, computeETag(notices), today);
+            snapshot = rebuilt;
+            log.debug("공지사항 스냅샷 재생성: {}건, ETag {}", notices.size(), rebuilt.etag());
+            return rebuilt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isVisible(Notice notice, LocalDate today) {
+        if (!Boolean.TRUE.equals(notice.getIsPublic())) {
+            return false;
+        }
+        if (notice.getStartDate() != null && notice.getStartDate().isAfter(today)) {
+            return false;
+        }
+        return notice.getEndDate() == null || !notice.getEndDate().isBefore(today);
+    }
+
+    /**
+     * 응답 본문과 같은 JSON 직렬화 결과의 SHA-256 (내용이 같으면 재생성해도 ETag 유지)
+     */
+    private String computeETag(List<NoticeDTO> notices) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(notices));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("공지사항 ETag 생성 실패", e);
+        }
     }
 
     private NoticeDTO convertToDTO(Notice notice) {
@@ -36,5 +128,10 @@ public class NoticeService {
                 .updatedAt(notice.getUpdatedAt())
                 .build();
     }
-}
 
+    /**
+     * 공지 피드 스냅샷 (notices는 불변 리스트)
+     */
+    public record NoticeSnapshot(List<NoticeDTO> notices, String etag, LocalDate date) {
+    }
+}
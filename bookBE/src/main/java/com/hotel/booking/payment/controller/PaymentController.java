@@ -3,6 +3,7 @@ package com.hotel.booking.payment.controller;
 import com.hotel.booking.payment.dto.PaymentDTO;
 import com.hotel.booking.payment.dto.PaymentRequest;
 import com.hotel.booking.payment.service.PaymentService;
+import com.hotel.booking.common.dto.CursorPage;
 import com.hotel.booking.common.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -33,6 +34,15 @@ public class PaymentController {
         return ResponseEntity.ok(paymentService.getUserPayments(userId));
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<PaymentDTO>> getUserPaymentsPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest httpRequest) {
+        String userId = getUserIdFromRequest(httpRequest);
+        return ResponseEntity.ok(paymentService.getUserPaymentsPage(userId, cursor, size));
+    }
+
     @GetMapping("/booking/{bookingId}")
     public ResponseEntity<PaymentDTO> getPaymentByBookingId(
             @PathVariable Long bookingId,
@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 public class PaymentDTO {
     private Long id;
     private Long bookingId;
+    private Long groupId; // 단체 예약 결제면 설정 (이때 bookingId는 없음)
     private BigDecimal amount;
     private Payment.PaymentMethod method;
     private Payment.PaymentStatus status;
@@ -1,6 +1,7 @@
 package com.hotel.booking.payment.entity;
 
 import com.hotel.booking.booking.entity.Booking;
+import com.hotel.booking.booking.entity.BookingGroup;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,15 +18,23 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class Payment {
+    // 예약과 같이 시퀀스 ID (50개씩 미리 할당)로 insert 배치 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
 
+    // 개별 예약 결제면 booking, 단체 예약 결제면 group 중 하나만 설정
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "booking_id", nullable = false, unique = true)
+    @JoinColumn(name = "booking_id", unique = true)
     private Booking booking;
 
-    @Column(nullable = false, precision = 10, scale = 2)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", unique = true)
+    private BookingGroup group;
+
+    // 단체 예약 합계 금액까지 담도록 12자리
+    @Column(nullable = false, precision = 12, scale = 2)
     private BigDecimal amount;
 
     @Enumerated(EnumType.STRING)
@@ -2,12 +2,43 @@ package com.hotel.booking.payment.repository;
 
 import com.hotel.booking.payment.entity.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByBookingId(Long bookingId);
-}
 
+    /**
+     * 결제 + 예약 함께 조회 (권한 확인용 예약 사용자 ID는 추가 쿼리 없이 사용 가능)
+     */
+    @Query("SELECT p FROM Payment p JOIN FETCH p.booking b WHERE b.id = :bookingId")
+    Optional<Payment> findByBookingIdWithBooking(@Param("bookingId") Long bookingId);
+
+    /**
+     * 예약이 속한 단체 예약의 결제 (단체 예약 결제는 객실별 예약이 아닌 단체 예약에 1건)
+     */
+    @Query("SELECT p FROM Payment p JOIN FETCH p.group g " +
+           "WHERE g.id = (SELECT b.group.id FROM Booking b WHERE b.id = :bookingId)")
+    Optional<Payment> findGroupPaymentByBookingId(@Param("bookingId") Long bookingId);
+
+    /**
+     * 사용자 결제 내역 (개별 예약 결제 + 단체 예약 결제, id 내림차순, cursor보다 작은 id부터 최대 limit건)
+     * 두 외부 조인을 OR로 묶으면 어느 user_id 인덱스도 쓸 수 없으므로 결제 종류별로 각각 limit건만 읽어 합침
+     * 인덱스: idx_bookings_user_id, idx_booking_groups_user_id, payments(booking_id)/(group_id) unique
+     */
+    @Query(value = "SELECT * FROM (" +
+                   "(SELECT p.* FROM payments p JOIN bookings b ON b.id = p.booking_id " +
+                   "WHERE b.user_id = :userId AND p.id < :cursor ORDER BY p.id DESC LIMIT :limit) " +
+                   "UNION ALL " +
+                   "(SELECT p.* FROM payments p JOIN booking_groups g ON g.id = p.group_id " +
+                   "WHERE g.user_id = :userId AND p.id < :cursor ORDER BY p.id DESC LIMIT :limit)" +
+                   ") u ORDER BY u.id DESC LIMIT :limit", nativeQuery = true)
+    List<Payment> findByUserId(@Param("userId") String userId,
+                               @Param("cursor") long cursor,
+                               @Param("limit") int limit);
+}
@@ -6,6 +6,8 @@ import com.hotel.booking.booking.entity.Booking;
 import com.hotel.booking.payment.entity.Payment;
 import com.hotel.booking.booking.repository.BookingRepository;
 import com.hotel.booking.payment.repository.PaymentRepository;
+import com.hotel.booking.common.dto.CursorPage;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +19,7 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "hotel.service", description = "서비스 메서드 실행 시간 (class/method/exception 태그)")
 public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final BookingRepository bookingRepository;
@@ -41,19 +44,34 @@ public class PaymentService {
 
     @Transactional(readOnly = true)
     public List<PaymentDTO> getUserPayments(String userId) {
-        // User를 통해 해당 사용자의 모든 예약을 찾고, 그 예약들의 결제를 가져옴
-        return paymentRepository.findAll().stream()
-                .filter(payment -> payment.getBooking().getUser().getId().equals(userId))
+        // 사용자 예약/단체 예약과 조인하여 해당 사용자의 결제만 조회 (쿼리 한 번)
+        return paymentRepository.findByUserId(userId, Long.MAX_VALUE, Integer.MAX_VALUE).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자 결제 내역 키셋 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PaymentDTO> getUserPaymentsPage(String userId, Long cursor, int size) {
+        int pageSize = CursorPage.normalizeSize(size);
+        List<Payment> rows = paymentRepository.findByUserId(userId,
+                cursor != null ? cursor : Long.MAX_VALUE, pageSize + 1);
+        return CursorPage.of(rows, pageSize, Payment::getId, this::convertToDTO);
+    }
+
     @Transactional(readOnly = true)
     public PaymentDTO getPaymentByBookingId(Long bookingId, String userId) {
-        Payment payment = paymentRepository.findByBookingId(bookingId)
+        // 단체 예약에 속한 예약이면 단체 예약 전체 결제를 반환
+        Payment payment = paymentRepository.findByBookingIdWithBooking(bookingId)
+                .or(() -> paymentRepository.findGroupPaymentByBookingId(bookingId))
                 .orElseThrow(() -> new RuntimeException("결제 정보를 찾을 수 없습니다"));
 
-        if (!payment.getBooking().getUser().getId().equals(userId)) {
+        String ownerId = payment.getBooking() != null
+                ? payment.getBooking().getUser().getId()
+                : payment.getGroup().getUser().getId();
+        if (!ownerId.equals(userId)) {
             throw new RuntimeException("결제 정보에 접근할 권한이 없습니다");
         }
 
@@ -63,7 +81,8 @@ public class PaymentService {
     private PaymentDTO convertToDTO(Payment payment) {
         return PaymentDTO.builder()
                 .id(payment.getId())
-                .bookingId(payment.getBooking().getId())
+                .bookingId(payment.getBooking() != null ? payment.getBooking().getId() : null)
+                .groupId(payment.getGroup() != null ? payment.getGroup().getId() : null)
                 .amount(payment.getAmount())
                 .method(payment.getMethod())
                 .status(payment.getStatus())
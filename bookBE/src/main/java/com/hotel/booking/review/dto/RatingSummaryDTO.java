@@ -0,0 +1,21 @@
+package com.hotel.booking.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 객실 타입별 리뷰 평점 집계 (공개 리뷰 기준)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryDTO {
+    private String roomType;
+    private Long reviewCount;
+    private Long ratingSum;
+
+    public Double getAverageRating() {
+        return reviewCount == null || reviewCount == 0 ? null : (double) ratingSum / reviewCount;
+    }
+}
@@ -12,7 +12,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_booking_id", columnList = "booking_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,12 @@
+package com.hotel.booking.review.event;
+
+import com.hotel.booking.common.event.DomainEvent;
+
+/**
+ * 공개 리뷰 평점 변화 (작성, 수정, 삭제, 공개 여부 변경)
+ * previousRating: 변경 전 공개 집계에 포함되어 있던 평점 (없으면 null)
+ * rating: 변경 후 공개 집계에 포함되는 평점 (없으면 null)
+ */
+public record ReviewChanged(Long reviewId, String roomType, Integer previousRating, Integer rating)
+        implements DomainEvent {
+}
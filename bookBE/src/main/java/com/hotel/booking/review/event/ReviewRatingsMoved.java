@@ -0,0 +1,11 @@
+package com.hotel.booking.review.event;
+
+import com.hotel.booking.common.event.DomainEvent;
+
+/**
+ * 객실 타입 변경으로 그 객실의 공개 리뷰 집계가 다른 타입으로 옮겨감
+ * reviewCount/ratingSum: 변경 시점 그 객실의 공개 리뷰 개수/평점 합계
+ */
+public record ReviewRatingsMoved(Long roomId, String previousRoomType, String roomType,
+                                 long reviewCount, long ratingSum) implements DomainEvent {
+}
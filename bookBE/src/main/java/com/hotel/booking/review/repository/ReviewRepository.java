@@ -1,17 +1,90 @@
 package com.hotel.booking.review.repository;
 
+import com.hotel.booking.review.dto.RatingSummaryDTO;
 import com.hotel.booking.review.entity.Review;
 import com.hotel.booking.user.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByRoomId(Long roomId);
     List<Review> findByUser(User user);
     boolean existsByBookingId(Long bookingId);
-    List<Review> findByBookingId(Long bookingId);
-}
 
+    /**
+     * 리뷰 행 잠금 조회 (SELECT ... FOR UPDATE)
+     * 평점 캐시에 보낼 이전 평점/공개 여부를 읽는 동안 다른 수정이 끼어들지 않도록 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.id = :id")
+    Optional<Review> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 예약에 연결된 리뷰 행 잠금 조회 (예약 취소 시 삭제 전 평점 확정용, ID 순서로 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.booking.id = :bookingId ORDER BY r.id")
+    List<Review> findByBookingIdForUpdate(@Param("bookingId") Long bookingId);
+
+    /**
+     * 객실 타입별 공개 리뷰 개수/평점 합계
+     */
+    @Query("SELECT new com.hotel.booking.review.dto.RatingSummaryDTO(r.room.type, COUNT(r), SUM(r.rating)) " +
+           "FROM Review r WHERE r.isPublic = true GROUP BY r.room.type")
+    List<RatingSummaryDTO> summarizeRatingsByRoomType();
+
+    /**
+     * 객실 하나의 공개 리뷰 개수/평점 합계 (공개 리뷰가 없으면 빈 값)
+     */
+    @Query("SELECT new com.hotel.booking.review.dto.RatingSummaryDTO(r.room.type, COUNT(r), SUM(r.rating)) " +
+           "FROM Review r WHERE r.isPublic = true AND r.room.id = :roomId GROUP BY r.room.type")
+    Optional<RatingSummaryDTO> summarizeRatingsByRoomId(@Param("roomId") Long roomId);
+
+    /**
+     * 관리자 리뷰 목록 키셋 페이지 (id 내림차순, cursor보다 작은 id부터)
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.room " +
+           "WHERE (:cursor IS NULL OR r.id < :cursor) " +
+           "AND (:roomId IS NULL OR r.room.id = :roomId) " +
+           "AND (:isPublic IS NULL OR r.isPublic = :isPublic) " +
+           "AND (:from IS NULL OR r.createdAt >= :from) " +
+           "AND (:to IS NULL OR r.createdAt < :to) " +
+           "ORDER BY r.id DESC")
+    List<Review> findPageForAdmin(
+            @Param("cursor") Long cursor,
+            @Param("roomId") Long roomId,
+            @Param("isPublic") Boolean isPublic,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Limit limit);
+
+    /**
+     * 관리자 리뷰 내보내기용 스트림 (트랜잭션 안에서만 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.room " +
+           "WHERE (:roomId IS NULL OR r.room.id = :roomId) " +
+           "AND (:isPublic IS NULL OR r.isPublic = :isPublic) " +
+           "AND (:from IS NULL OR r.createdAt >= :from) " +
+           "AND (:to IS NULL OR r.createdAt < :to) " +
+           "ORDER BY r.id DESC")
+    Stream<Review> streamForAdmin(
+            @Param("roomId") Long roomId,
+            @Param("isPublic") Boolean isPublic,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
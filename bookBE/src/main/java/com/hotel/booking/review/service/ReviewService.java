@@ -4,10 +4,13 @@ import com.hotel.booking.review.dto.ReviewDTO;
 import com.hotel.booking.review.dto.ReviewRequest;
 import com.hotel.booking.booking.entity.Booking;
 import com.hotel.booking.review.entity.Review;
+import com.hotel.booking.review.event.ReviewChanged;
+import com.hotel.booking.common.event.DomainEventBus;
 import com.hotel.booking.user.entity.User;
 import com.hotel.booking.booking.repository.BookingRepository;
 import com.hotel.booking.review.repository.ReviewRepository;
 import com.hotel.booking.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,10 +21,12 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "hotel.service", description = "서비스 메서드 실행 시간 (class/method/exception 태그)")
 public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final DomainEventBus eventBus;
 
     @Transactional
     public ReviewDTO createReview(String userId, ReviewRequest request) {
@@ -67,6 +72,9 @@ public class ReviewService {
                 .build();
 
         review = reviewRepository.save(review);
+        if (review.getIsPublic()) {
+            eventBus.publish(new ReviewChanged(review.getId(), review.getRoom().getType(), null, review.getRating()));
+        }
         return convertToDTO(review);
     }
 
@@ -88,7 +96,7 @@ public class ReviewService {
 
     @Transactional
     public ReviewDTO updateReview(String userId, Long reviewId, ReviewRequest request) {
-        Review review = reviewRepository.findById(reviewId)
+        Review review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new RuntimeException("리뷰를 찾을 수 없습니다"));
 
         if (!review.getUser().getId().equals(userId)) {
@@ -96,6 +104,7 @@ public class ReviewService {
         }
 
         // 리뷰 수정 (bookingId는 무시)
+        int previousRating = review.getRating();
         review.setRating(request.getRating());
         if (request.getTitle() != null) {
             review.setTitle(request.getTitle());
@@ -105,6 +114,10 @@ public class ReviewService {
         }
 
         review = reviewRepository.save(review);
+        if (review.getIsPublic()) {
+            eventBus.publish(new ReviewChanged(
+                    review.getId(), review.getRoom().getType(), previousRating, review.getRating()));
+        }
         return convertToDTO(review);
     }
 
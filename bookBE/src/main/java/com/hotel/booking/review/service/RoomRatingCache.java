@@ -0,0 +1,120 @@
+package com.hotel.booking.review.service;
+
+import com.hotel.booking.common.event.DomainEvent;
+import com.hotel.booking.common.event.DomainEventBus;
+import com.hotel.booking.common.event.DomainEventListener;
+import com.hotel.booking.review.dto.RatingSummaryDTO;
+import com.hotel.booking.review.event.ReviewChanged;
+import com.hotel.booking.review.event.ReviewRatingsMoved;
+import com.hotel.booking.review.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 객실 타입별 평점 집계 캐시
+ * - 시작 시 GROUP BY 쿼리 한 번으로 로드
+ * - 리뷰 작성/수정/삭제, 공개 여부 변경(ReviewChanged)과 객실 타입 변경(ReviewRatingsMoved)을 증분으로 반영
+ * - 커밋 직후 동기 구독: 증분끼리는 순서와 무관하게 합이 같으므로 재집계 없이 일관성 유지
+ * - 로드는 이벤트 버스 커밋 게이트를 닫고 실행: 로드 결과에 포함된 변경의 증분이 로드 후 다시 더해지지 않음
+ * - 공개(isPublic = true) 리뷰만 집계
+ */
+@Component
+@Order(DomainEventListener.STATE_ORDER)
+@Slf4j
+public class RoomRatingCache implements DomainEventListener {
+    private final ReviewRepository reviewRepository;
+    private final DomainEventBus eventBus;
+
+    // 로드는 새 맵을 채운 뒤 참조만 교체: 조회가 비워졌다 다시 채워지는 중간 상태를 보지 않음
+    private volatile Map<String, RatingSummaryDTO> summaries = new ConcurrentHashMap<>();
+    private volatile boolean loaded = false;
+    // 재집계는 DB 조회를 포함하므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 고정 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // DomainEventBus가 구독자 목록으로 이 캐시를 주입받으므로 지연 주입
+    public RoomRatingCache(ReviewRepository reviewRepository, @Lazy DomainEventBus eventBus) {
+        this.reviewRepository = reviewRepository;
+        this.eventBus = eventBus;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        eventBus.withCommitsPaused(() -> {
+            lock.lock();
+            try {
+                Map<String, RatingSummaryDTO> loadedSummaries = new ConcurrentHashMap<>();
+                reviewRepository.summarizeRatingsByRoomType()
+                        .forEach(summary -> loadedSummaries.put(summary.getRoomType(), summary));
+                summaries = loadedSummaries;
+                loaded = true;
+                log.info("객실 평점 집계 로드 완료: 타입 {}개", loadedSummaries.size());
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 객실 타입의 평점 집계 조회 (리뷰가 없으면 개수 0)
+     * 로드 전(시작 중)에는 캐시하지 않고 DB에서 바로 집계 (커밋 처리 중인 스레드에서도 호출될 수 있으므로 여기서 로드하지 않음)
+     */
+    public RatingSummaryDTO getSummary(String roomType) {
+        if (!loaded) {
+            return reviewRepository.summarizeRatingsByRoomType().stream()
+                    .filter(summary -> summary.getRoomType().equals(roomType))
+                    .findFirst()
+                    .orElseGet(() -> new RatingSummaryDTO(roomType, 0L, 0L));
+        }
+        RatingSummaryDTO summary = summaries.get(roomType);
+        return summary != null ? summary : new RatingSummaryDTO(roomType, 0L, 0L);
+    }
+
+    @Override
+    public boolean synchronous() {
+        return true;
+    }
+
+    /**
+     * 공개 리뷰 평점 변화 반영 (집계에 추가, 제외, 평점 수정, 다른 타입으로 이동)
+     */
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event instanceof ReviewChanged changed) {
+                long countDelta = (changed.rating() != null ? 1 : 0) - (changed.previousRating() != null ? 1 : 0);
+                long sumDelta = (changed.rating() != null ? changed.rating() : 0)
+                        - (changed.previousRating() != null ? changed.previousRating() : 0);
+                apply(changed.roomType(), countDelta, sumDelta);
+            } else if (event instanceof ReviewRatingsMoved moved) {
+                apply(moved.previousRoomType(), -moved.reviewCount(), -moved.ratingSum());
+                apply(moved.roomType(), moved.reviewCount(), moved.ratingSum());
+            }
+        }
+    }
+
+    private void apply(String roomType, long countDelta, long sumDelta) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return; // 아직 로드 전이면 이 변경은 커밋 후 로드하는 DB 상태에 반영되어 있음
+            }
+            summaries.compute(roomType, (type, current) -> {
+                long count = (current != null ? current.getReviewCount() : 0) + countDelta;
+                long sum = (current != null ? current.getRatingSum() : 0) + sumDelta;
+                return count <= 0 ? null : new RatingSummaryDTO(type, count, sum);
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,29 +1,50 @@
 package com.hotel.booking.room.controller;
 
 import com.hotel.booking.room.dto.RoomDTO;
+import com.hotel.booking.room.service.RoomCatalogCache;
 import com.hotel.booking.room.service.RoomService;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Supplier;
 
+/**
+ * 객실 목록 API
+ * 목록 응답은 RoomCatalogCache의 직렬화된 바이트로 응답하고 ETag/Last-Modified로 304 처리
+ * - 날짜 조건 없음: 객실 정보만 바뀌므로 max-age 동안 브라우저 캐시 사용
+ * - 날짜 조건 있음: 예약마다 바뀌므로 매번 재검증(no-cache)
+ */
 @RestController
 @RequestMapping("/api/rooms")
-@RequiredArgsConstructor
 public class RoomController {
     private final RoomService roomService;
+    private final RoomCatalogCache catalogCache;
+    private final CacheControl catalogCacheControl;
+    private final CacheControl searchCacheControl = CacheControl.noCache().cachePublic();
+
+    public RoomController(RoomService roomService, RoomCatalogCache catalogCache,
+                          @Value("${room.catalog.max-age-seconds:30}") long catalogMaxAgeSeconds) {
+        this.roomService = roomService;
+        this.catalogCache = catalogCache;
+        this.catalogCacheControl = CacheControl.maxAge(Duration.ofSeconds(catalogMaxAgeSeconds)).cachePublic();
+    }
 
     @GetMapping
-    public ResponseEntity<List<RoomDTO>> getAllRooms(
+    public ResponseEntity<byte[]> getAllRooms(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate) {
         if (checkInDate != null && checkOutDate != null) {
-            return ResponseEntity.ok(roomService.getAvailableRooms(checkInDate, checkOutDate));
+            return catalog("/api/rooms", checkInDate, checkOutDate,
+                    () -> roomService.getAvailableRooms(checkInDate, checkOutDate));
         }
-        return ResponseEntity.ok(roomService.getAllRooms());
+        return catalog("/api/rooms", null, null, roomService::getAllRooms);
     }
 
     @GetMapping("/{id}")
@@ -32,20 +53,39 @@ public class RoomController {
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<RoomDTO>> getRoomsByType(
+    public ResponseEntity<byte[]> getRoomsByType(
             @PathVariable String type,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate) {
-        return ResponseEntity.ok(roomService.getRoomsByType(type, checkInDate, checkOutDate));
+        return catalog("/api/rooms/type/" + type, checkInDate, checkOutDate,
+                () -> roomService.getRoomsByType(type, checkInDate, checkOutDate));
     }
 
     @GetMapping("/type/{type}/view/{viewType}")
-    public ResponseEntity<List<RoomDTO>> getRoomsByTypeAndViewType(
+    public ResponseEntity<byte[]> getRoomsByTypeAndViewType(
             @PathVariable String type,
             @PathVariable String viewType,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate) {
-        return ResponseEntity.ok(roomService.getRoomsByTypeAndViewType(type, viewType, checkInDate, checkOutDate));
+        return catalog("/api/rooms/type/" + type + "/view/" + viewType, checkInDate, checkOutDate,
+                () -> roomService.getRoomsByTypeAndViewType(type, viewType, checkInDate, checkOutDate));
     }
-}
 
+    /**
+     * 캐시된 목록 응답 (날짜는 둘 다 있을 때만 조건으로 사용하므로 하나만 있으면 날짜 없는 키로 취급)
+     * If-None-Match/If-Modified-Since가 일치하면 Spring MVC가 본문 없이 304로 응답
+     */
+    private ResponseEntity<byte[]> catalog(String path, LocalDate checkInDate, LocalDate checkOutDate,
+                                           Supplier<List<RoomDTO>> loader) {
+        boolean dated = checkInDate != null && checkOutDate != null;
+        RoomCatalogCache.CatalogResponse response = dated
+                ? catalogCache.get(path, checkInDate, checkOutDate, loader)
+                : catalogCache.get(path, null, null, loader);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(response.etag())
+                .lastModified(response.lastModified())
+                .cacheControl(dated ? searchCacheControl : catalogCacheControl)
+                .body(response.body());
+    }
+}
@@ -0,0 +1,17 @@
+package com.hotel.booking.room.dto;
+
+import com.hotel.booking.room.entity.Room;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 객실 상태별 개수 집계 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomStatusCountDTO {
+    private Room.RoomStatus status;
+    private Long count;
+}
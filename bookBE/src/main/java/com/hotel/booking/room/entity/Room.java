@@ -3,6 +3,8 @@ package com.hotel.booking.room.entity;
 import com.hotel.booking.booking.entity.Booking;
 import com.hotel.booking.review.entity.Review;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,6 +16,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "rooms")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "room") // 2차 캐시 (관리자 수정 시 Hibernate가 갱신)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
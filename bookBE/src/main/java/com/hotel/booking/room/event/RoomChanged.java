@@ -0,0 +1,9 @@
+package com.hotel.booking.room.event;
+
+import com.hotel.booking.common.event.DomainEvent;
+
+/**
+ * 객실 정보 변경 (생성, 수정, 활성화/비활성화)
+ */
+public record RoomChanged(Long roomId) implements DomainEvent {
+}
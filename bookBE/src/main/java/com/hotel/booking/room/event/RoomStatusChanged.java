@@ -0,0 +1,11 @@
+package com.hotel.booking.room.event;
+
+import com.hotel.booking.common.event.DomainEvent;
+import com.hotel.booking.room.entity.Room;
+
+/**
+ * 객실 상태 변경 (청소 완료, 체크아웃 후 청소 필요, 보수 등)
+ */
+public record RoomStatusChanged(Long roomId, Room.RoomStatus previousStatus, Room.RoomStatus status)
+        implements DomainEvent {
+}
@@ -1,32 +1,81 @@
 package com.hotel.booking.room.repository;
 
+import com.hotel.booking.room.dto.RoomStatusCountDTO;
 import com.hotel.booking.room.entity.Room;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
     List<Room> findByAvailableTrue();
-    
+
+    /**
+     * 객실 행 잠금 조회 (SELECT ... FOR UPDATE)
+     * 같은 객실에 대한 예약 생성을 트랜잭션 단위로 직렬화하기 위해 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id = :id")
+    Optional<Room> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 여러 객실 행 잠금 조회 (단체 예약용, ID 순서로 잠가 교착 상태 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id IN :ids ORDER BY r.id")
+    List<Room> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
     /**
-     * 예약 가능한 객실 조회
-     * 조건:
-     * 1. available = true (객실이 활성화되어 있어야 함)
-     * 2. 해당 날짜 범위에 취소되지 않은 예약이 없어야 함
+     * 단체 예약 추가 배정용: 타입/인원 조건에 맞고 기간이 비어 있는 활성 객실을 ID 순으로 잠금 (excluded 제외)
+     * 다른 트랜잭션이 잠근 객실은 건너뛰므로(SKIP LOCKED) 이미 잡은 잠금과 순서가 어긋나도 대기하지 않음 (교착 상태 없음)
+     * 빈 기간 조건은 잠금 전 스냅숏 기준이므로 잠근 뒤 예약을 다시 확인해야 함
      */
-    @Query("SELECT r FROM Room r WHERE r.available = true AND r.id NOT IN " +
-           "(SELECT b.room.id FROM Booking b WHERE b.status != 'CANCELLED' " +
-           "AND ((b.checkInDate <= :checkOutDate AND b.checkOutDate >= :checkInDate)))")
-    List<Room> findAvailableRooms(@Param("checkInDate") LocalDate checkInDate, 
-                                   @Param("checkOutDate") LocalDate checkOutDate);
+    @Query(value = "SELECT * FROM rooms r WHERE r.type = :type AND r.available = true AND r.capacity >= :guests " +
+                   "AND r.id NOT IN (:excluded) " +
+                   "AND NOT EXISTS (SELECT 1 FROM bookings b WHERE b.room_id = r.id AND b.status <> 'CANCELLED' " +
+                   "AND b.check_in_date < :checkOut AND b.check_out_date > :checkIn) " +
+                   "ORDER BY r.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Room> findFreeByTypeForUpdateSkipLocked(@Param("type") String type,
+                                                 @Param("guests") int guests,
+                                                 @Param("checkIn") LocalDate checkIn,
+                                                 @Param("checkOut") LocalDate checkOut,
+                                                 @Param("excluded") Collection<Long> excluded,
+                                                 @Param("limit") int limit);
     
+    /**
+     * 전체 객실 (쿼리 캐시: rooms 테이블이 바뀌면 Hibernate가 자동 무효화)
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "room-queries")
+    })
+    List<Room> findAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "room-queries")
+    })
     List<Room> findByTypeAndViewType(String type, String viewType);
-    
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "room-queries")
+    })
     List<Room> findByType(String type);
+
+    @Query("SELECT new com.hotel.booking.room.dto.RoomStatusCountDTO(r.status, COUNT(r)) FROM Room r GROUP BY r.status")
+    List<RoomStatusCountDTO> countByStatus();
 }
 
@@ -0,0 +1,347 @@
+package com.hotel.booking.room.service;
+
+import com.hotel.booking.booking.dto.BookingStayDTO;
+import com.hotel.booking.booking.event.BookingCancelled;
+import com.hotel.booking.booking.event.BookingCreated;
+import com.hotel.booking.booking.event.BookingStatusChanged;
+import com.hotel.booking.booking.repository.BookingRepository;
+import com.hotel.booking.common.event.DomainEvent;
+import com.hotel.booking.common.event.DomainEventListener;
+import com.hotel.booking.room.entity.Room;
+import com.hotel.booking.room.event.RoomChanged;
+import com.hotel.booking.room.repository.RoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+
+/**
+ * 객실별 점유 박(night) 인메모리 인덱스 + 객실 타입별 남은 객실 수
+ * - 객실마다 BitSet 하나 (비트 = 기준일로부터의 일수, 1 = 취소되지 않은 예약이 있는 박)
+ * - 타입마다 박별 예약 객실 수 배열 (RoomTypeInventory, 어제부터 horizon-days일): 객실 비트가 0↔1로 바뀔 때만 증감
+ * - 애플리케이션 시작 시 bookings 테이블에서 한 번 로드
+ * - 예약 생성/취소/상태 변경 이벤트로 갱신 (DomainEventBus 동기 구독, 커밋 직후 요청 스레드), 객실 변경 이벤트와 매일 자정에 타입 배열 재구성
+ * - 숙박 기간 [체크인, 체크아웃) 기준: 체크아웃 당일 체크인은 겹치지 않음
+ */
+@Component
+@Order(DomainEventListener.STATE_ORDER)
+@Slf4j
+public class RoomAvailabilityIndex implements DomainEventListener {
+    // 이 날짜 이전의 박은 검색 대상이 아니므로 인덱싱하지 않음
+    private static final LocalDate BASE_DATE = LocalDate.of(2000, 1, 1);
+
+    private final BookingRepository bookingRepository;
+    private final RoomRepository roomRepository;
+    private final int horizonDays;
+
+    // 재구성은 새 맵을 따로 채운 뒤 참조만 교체: 잠금 없는 isFree가 비워졌다 다시 채워지는 중간 상태를 보지 않음
+    private volatile Map<Long, RoomNights> rooms = new ConcurrentHashMap<>();
+    // 갱신(이벤트 반영/재구성)은 한 번에 하나씩: 재구성 중 반영된 변경이 새 타입 배열에서 빠지지 않도록
+    private final ReentrantLock updateLock = new ReentrantLock();
+    // 전체 재구성은 한 번에 하나씩 (DB 조회는 updateLock 밖에서 하므로 별도 잠금)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 재구성의 DB 조회 ~ 교체 사이에 반영된 이벤트 (updateLock으로 보호, 재구성 중이 아니면 null)
+    // 조회 결과에 포함됐는지 알 수 없으므로 새 인덱스에 다시 반영 (예약 ID 기준 반영이라 두 번 반영해도 결과가 같음)
+    private List<DomainEvent> replay;
+    private volatile Map<Long, String> activeRoomTypes = Map.of(); // 활성(available) 객실 ID → 타입
+    private volatile RoomTypeInventory inventory = new RoomTypeInventory(0, 0);
+
+    public RoomAvailabilityIndex(BookingRepository bookingRepository, RoomRepository roomRepository,
+                                 @Value("${room.inventory.horizon-days:730}") int horizonDays) {
+        this.bookingRepository = bookingRepository;
+        this.roomRepository = roomRepository;
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * bookings 테이블 기준으로 전체 재구성
+     * DB 조회 중에도 이벤트는 기존 인덱스에 반영되고(검색 중단 없음) 기록해 두었다가 새 인덱스에 다시 반영
+     * → 조회와 교체 사이에 커밋된 예약이 새 인덱스에서 빠지지 않음
+     * 새 인덱스는 기존 인덱스와 별도로 만들고 기록된 이벤트까지 반영한 뒤 한 번에 교체
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            updateLock.lock();
+            try {
+                replay = new ArrayList<>();
+            } finally {
+                updateLock.unlock();
+            }
+            List<BookingStayDTO> stays;
+            List<Room> allRooms;
+            try {
+                stays = bookingRepository.findActiveStays();
+                allRooms = roomRepository.findAll();
+            } catch (RuntimeException e) {
+                updateLock.lock();
+                try {
+                    replay = null;
+                } finally {
+                    updateLock.unlock();
+                }
+                throw e;
+            }
+            boolean roomsChanged;
+            updateLock.lock();
+            try {
+                Map<Long, RoomNights> next = new ConcurrentHashMap<>();
+                stays.forEach(stay -> addStay(next, stay));
+                roomsChanged = apply(next, replay, false);
+                replay = null;
+                rooms = next;
+                rebuildInventory(allRooms);
+            } finally {
+                updateLock.unlock();
+            }
+            // 조회 후 객실이 바뀌었으면 객실 목록을 다시 읽어 타입 배열 재구성
+            if (roomsChanged) {
+                rollInventory();
+            }
+            log.info("객실 가용성 인덱스 초기화 완료: 예약 {}건, 객실 {}개", stays.size(), rooms.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 타입별 배열을 오늘 기준으로 다시 구성 (시작일을 하루씩 밀기 위해 매일 실행)
+     */
+    @Scheduled(cron = "${room.inventory.roll-cron:0 5 0 * * *}")
+    public void rollInventory() {
+        List<Room> allRooms = roomRepository.findAll();
+        updateLock.lock();
+        try {
+            rebuildInventory(allRooms);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 예약 직후 같은 사용자의 검색/재예약에 바로 반영되어야 하므로 커밋 직후 동기 반영
+     */
+    @Override
+    public boolean synchronous() {
+        return true;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        boolean roomsChanged;
+        updateLock.lock();
+        try {
+            if (replay != null) {
+                replay.addAll(events);
+            }
+            roomsChanged = apply(rooms, events, true);
+        } finally {
+            updateLock.unlock();
+        }
+        // 객실 추가/타입 변경/활성화 여부 변경: 타입 구성이 바뀌므로 묶음당 한 번 재구성
+        if (roomsChanged) {
+            rollInventory();
+        }
+    }
+
+    /**
+     * 이벤트 반영 (updateLock 안에서 호출), 객실 변경 이벤트가 있었으면 true
+     * live가 false면 교체 전의 새 인덱스: 타입 배열은 교체 직후 다시 구성하므로 증감하지 않음
+     */
+    private boolean apply(Map<Long, RoomNights> target, List<DomainEvent> events, boolean live) {
+        boolean roomsChanged = false;
+        int added = live ? 1 : 0;
+        int removed = live ? -1 : 0;
+        for (DomainEvent event : events) {
+            if (event instanceof BookingCreated created) {
+                BookingStayDTO stay = new BookingStayDTO(created.bookingId(), created.roomId(),
+                        created.checkInDate(), created.checkOutDate());
+                adjustInventory(stay.getRoomId(), addStay(target, stay), added);
+            } else if (event instanceof BookingCancelled cancelled) {
+                adjustInventory(cancelled.roomId(),
+                        removeStay(target, cancelled.roomId(), cancelled.bookingId()), removed);
+            } else if (event instanceof BookingStatusChanged changed) {
+                if (changed.cancelled()) {
+                    adjustInventory(changed.roomId(),
+                            removeStay(target, changed.roomId(), changed.bookingId()), removed);
+                } else if (changed.restored()) {
+                    BookingStayDTO stay = new BookingStayDTO(changed.bookingId(), changed.roomId(),
+                            changed.checkInDate(), changed.checkOutDate());
+                    adjustInventory(stay.getRoomId(), addStay(target, stay), added);
+                }
+            } else if (event instanceof RoomChanged) {
+                roomsChanged = true;
+            }
+        }
+        return roomsChanged;
+    }
+
+    /**
+     * 예약 점유 구간 추가
+     */
+    public void add(BookingStayDTO stay) {
+        updateLock.lock();
+        try {
+            adjustInventory(stay.getRoomId(), addStay(rooms, stay), 1);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 예약 점유 구간 제거 (취소 시)
+     */
+    public void remove(Long roomId, Long bookingId) {
+        updateLock.lock();
+        try {
+            // 재구성 교체와 겹치지 않도록 잠금 안에서 조회 (교체 전 객체에서 제거하면 새 인덱스에 남음)
+            adjustInventory(roomId, removeStay(rooms, roomId, bookingId), -1);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 해당 객실이 [checkInDate, checkOutDate) 동안 비어 있는지 확인
+     */
+    public boolean isFree(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        RoomNights nights = rooms.get(roomId);
+        return nights == null || nights.isFree(checkInDate, checkOutDate);
+    }
+
+    /**
+     * 타입의 [checkInDate, checkOutDate) 동안 박마다 남아 있는 활성 객실 수의 최솟값 (O(박 수))
+     * - 0이면 그 타입에 기간 내내 비어 있는 객실이 없음 (객실별 확인 불필요)
+     * - 양수여도 박마다 다른 객실이 비어 있을 수 있으므로 실제 객실은 isFree로 확인
+     * - 타입 배열 구간(어제 ~ horizon-days일 후) 밖이거나 알 수 없는 타입이면 -1
+     */
+    public int minRemaining(String type, LocalDate checkInDate, LocalDate checkOutDate) {
+        return inventory.minRemaining(type, toIndex(checkInDate), toIndex(checkOutDate));
+    }
+
+    private void rebuildInventory(List<Room> allRooms) {
+        Map<Long, String> types = new HashMap<>();
+        RoomTypeInventory next = new RoomTypeInventory(toIndex(LocalDate.now().minusDays(1)), horizonDays);
+        for (Room room : allRooms) {
+            if (!Boolean.TRUE.equals(room.getAvailable())) {
+                continue;
+            }
+            types.put(room.getId(), room.getType());
+            next.addRoom(room.getType());
+        }
+        types.forEach((roomId, type) -> {
+            RoomNights nights = rooms.get(roomId);
+            if (nights != null) {
+                nights.forEachOccupied(next.start(), next.end(), night -> next.adjust(type, night, 1));
+            }
+        });
+        activeRoomTypes = types;
+        inventory = next;
+    }
+
+    private static NightChange addStay(Map<Long, RoomNights> target, BookingStayDTO stay) {
+        return target.computeIfAbsent(stay.getRoomId(), id -> new RoomNights()).add(stay);
+    }
+
+    private static NightChange removeStay(Map<Long, RoomNights> target, Long roomId, Long bookingId) {
+        RoomNights nights = target.get(roomId);
+        return nights != null ? nights.remove(bookingId) : null;
+    }
+
+    private void adjustInventory(Long roomId, NightChange change, int delta) {
+        String type = activeRoomTypes.get(roomId);
+        if (type == null || change == null || delta == 0) {
+            return; // 비활성 객실은 타입 배열에 포함하지 않음
+        }
+        RoomTypeInventory current = inventory;
+        for (int bit = change.nights().nextSetBit(0); bit >= 0; bit = change.nights().nextSetBit(bit + 1)) {
+            current.adjust(type, change.from() + bit, delta);
+        }
+    }
+
+    private static int toIndex(LocalDate date) {
+        long days = date.toEpochDay() - BASE_DATE.toEpochDay();
+        return (int) Math.max(0, days);
+    }
+
+    /**
+     * 객실 한 개의 점유 박 정보
+     * 레거시 데이터에 겹치는 예약이 있을 수 있으므로 예약 ID별 구간을 함께 보관하여
+     * 취소 시 다른 예약이 점유한 박을 다시 설정함
+     */
+    private static class RoomNights {
+        private final BitSet occupied = new BitSet();
+        private final Map<Long, BookingStayDTO> stays = new HashMap<>();
+
+        /**
+         * 구간 추가 후 새로 점유된 박 반환 (이미 다른 예약이 점유한 박은 제외)
+         */
+        synchronized NightChange add(BookingStayDTO stay) {
+            stays.put(stay.getBookingId(), stay);
+            int from = toIndex(stay.getCheckInDate());
+            int to = toIndex(stay.getCheckOutDate());
+            BitSet added = new BitSet(Math.max(0, to - from));
+            added.set(0, Math.max(0, to - from));
+            added.andNot(occupied.get(from, to));
+            set(stay);
+            return new NightChange(from, added);
+        }
+
+        /**
+         * 구간 제거 후 비게 된 박 반환 (겹치는 다른 예약이 남아 있는 박은 제외), 없는 예약이면 null
+         */
+        synchronized NightChange remove(Long bookingId) {
+            BookingStayDTO removed = stays.remove(bookingId);
+            if (removed == null) {
+                return null;
+            }
+            int from = toIndex(removed.getCheckInDate());
+            int to = toIndex(removed.getCheckOutDate());
+            BitSet freed = occupied.get(from, to);
+            occupied.clear(from, to);
+            stays.values().stream()
+                    .filter(s -> s.getCheckInDate().isBefore(removed.getCheckOutDate())
+                            && s.getCheckOutDate().isAfter(removed.getCheckInDate()))
+                    .forEach(this::set);
+            freed.andNot(occupied.get(from, to));
+            return new NightChange(from, freed);
+        }
+
+        synchronized void forEachOccupied(int from, int to, IntConsumer action) {
+            for (int night = occupied.nextSetBit(from); night >= 0 && night < to; night = occupied.nextSetBit(night + 1)) {
+                action.accept(night);
+            }
+        }
+
+        synchronized boolean isFree(LocalDate checkInDate, LocalDate checkOutDate) {
+            int from = toIndex(checkInDate);
+            int to = toIndex(checkOutDate);
+            int next = occupied.nextSetBit(from);
+            return next < 0 || next >= to;
+        }
+
+        private void set(BookingStayDTO stay) {
+            occupied.set(toIndex(stay.getCheckInDate()), toIndex(stay.getCheckOutDate()));
+        }
+    }
+
+    /**
+     * 점유 상태가 바뀐 박 (nights의 비트 i = 일 인덱스 from + i)
+     */
+    private record NightChange(int from, BitSet nights) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.hotel.booking.room.service;
+
+import com.hotel.booking.common.event.DomainEvent;
+import com.hotel.booking.common.event.DomainEventListener;
+import com.hotel.booking.common.util.TransactionCallbacks;
+import com.hotel.booking.room.dto.RoomDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 객실 카탈로그 응답 캐시
+ * - 카탈로그 버전: 객실/예약/리뷰 도메인 이벤트 묶음마다 한 번 증가, 버전이 바뀌면 캐시된 응답 전체 무효
+ * - (경로, 체크인, 체크아웃)별로 직렬화된 JSON 바이트와 ETag(본문 해시), Last-Modified 보관
+ * - 캐시 미스 시 본문은 RoomJsonCache의 객실별 JSON 조각을 이어 붙여 만듦 (버전이 바뀌어도 조각은 유지)
+ * - 커밋 직후 동기 구독: 가용성 인덱스/평점 캐시(STATE_ORDER)가 같은 이벤트를 반영한 뒤 호출되므로 갱신된 상태로 다시 만들어짐
+ */
+@Component
+@Order(DomainEventListener.VIEW_ORDER)
+public class RoomCatalogCache implements DomainEventListener {
+    private final RoomJsonCache jsonCache;
+    private final int maxEntries;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Instant lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final Map<CatalogKey, CatalogResponse> responses = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public RoomCatalogCache(RoomJsonCache jsonCache,
+                            @Value("${room.catalog.cache.max-entries:1000}") int maxEntries) {
+        this.jsonCache = jsonCache;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 응답 조회, 없거나 이전 버전이면 loader로 만들어 저장
+     */
+    public CatalogResponse get(String path, LocalDate checkInDate, LocalDate checkOutDate,
+                               Supplier<List<RoomDTO>> loader) {
+        // 조회 중 버전이 바뀌면 이전 버전으로 저장되어 다음 요청에서 다시 만들어짐
+        long currentVersion = version.get();
+        Instant modified = lastModified;
+        CatalogKey key = new CatalogKey(path, checkInDate, checkOutDate);
+
+        CatalogResponse cached = responses.get(key);
+        if (cached != null && cached.version() == currentVersion) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        byte[] body = jsonCache.writeList(loader.get());
+        CatalogResponse response = new CatalogResponse(body, computeETag(body), modified, currentVersion);
+        if (responses.size() >= maxEntries) {
+            responses.clear(); // 날짜 조합이 많아도 메모리 사용량 상한 유지
+        }
+        responses.put(key, response);
+        return response;
+    }
+
+    @Override
+    public boolean synchronous() {
+        return true; // 버전 증가뿐이라 가벼움, 예약 직후 목록 조회에 이전 응답이 나가지 않도록
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        bump(); // 구독하는 이벤트(예약/객실/리뷰)는 모두 카탈로그에 영향
+    }
+
+    /**
+     * 이벤트 없이 카탈로그를 다시 만들어야 하는 경우 (DB 직접 수정 후 캐시 제거 등, 커밋 후 버전 증가)
+     */
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(this::bump);
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void bump() {
+        lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        version.incrementAndGet();
+        responses.clear();
+    }
+
+    private String computeETag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("객실 목록 ETag 생성 실패", e);
+        }
+    }
+
+    private record CatalogKey(String path, LocalDate checkInDate, LocalDate checkOutDate) {
+    }
+
+    /**
+     * 직렬화된 카탈로그 응답 (body는 수정하지 않음)
+     */
+    public record CatalogResponse(byte[] body, String etag, Instant lastModified, long version) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.hotel.booking.room.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.booking.room.dto.RoomDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RoomDTO별 UTF-8 JSON 조각 캐시
+ * - 객실 ID + allBooked 값별로 마지막 직렬화 결과(DTO, 바이트) 보관
+ * - 같은 객실의 DTO 내용(설명, 가격, 평점 등)이 바뀌면 해당 객실 조각만 다시 직렬화
+ * - 목록 응답은 조각을 이어 붙여 만들므로 목록 전체를 Jackson으로 직렬화하지 않음
+ * 전달받은 RoomDTO를 그대로 보관하므로 호출 후 DTO를 수정하지 않아야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomJsonCache {
+    private static final byte[] EMPTY_ARRAY = {'[', ']'};
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<FragmentKey, Fragment> fragments = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 객실 목록을 JSON 배열 바이트로 변환 (ObjectMapper.writeValueAsBytes(rooms)와 같은 결과)
+     */
+    public byte[] writeList(List<RoomDTO> rooms) {
+        if (rooms.isEmpty()) {
+            return EMPTY_ARRAY.clone();
+        }
+        byte[][] parts = new byte[rooms.size()][];
+        int length = 1 + rooms.size(); // '[' + 구분자(',') + ']'
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = fragment(rooms.get(i));
+            length += parts[i].length;
+        }
+
+        byte[] body = new byte[length];
+        int pos = 0;
+        body[pos++] = '[';
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                body[pos++] = ',';
+            }
+            System.arraycopy(parts[i], 0, body, pos, parts[i].length);
+            pos += parts[i].length;
+        }
+        body[pos] = ']';
+        return body;
+    }
+
+    /**
+     * 객실 한 개의 JSON 조각 (내용이 같으면 캐시된 바이트 재사용)
+     */
+    public byte[] fragment(RoomDTO room) {
+        if (room.getId() == null) {
+            return serialize(room);
+        }
+        FragmentKey key = new FragmentKey(room.getId(), Boolean.TRUE.equals(room.getAllBooked()));
+        Fragment cached = fragments.get(key);
+        if (cached != null && cached.room().equals(room)) {
+            hits.increment();
+            return cached.json();
+        }
+        misses.increment();
+        byte[] json = serialize(room);
+        fragments.put(key, new Fragment(room, json));
+        return json;
+    }
+
+    /**
+     * 객실 조각 제거 (객실 수정 시)
+     */
+    public void evict(Long roomId) {
+        fragments.remove(new FragmentKey(roomId, false));
+        fragments.remove(new FragmentKey(roomId, true));
+    }
+
+    public void clear() {
+        fragments.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private byte[] serialize(RoomDTO room) {
+        try {
+            return objectMapper.writeValueAsBytes(room);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("객실 정보 직렬화 실패", e);
+        }
+    }
+
+    private record FragmentKey(Long roomId, boolean allBooked) {
+    }
+
+    private record Fragment(RoomDTO room, byte[] json) {
+    }
+}
@@ -3,7 +3,9 @@ package com.hotel.booking.room.service;
 import com.hotel.booking.room.dto.RoomDTO;
 import com.hotel.booking.room.entity.Room;
 import com.hotel.booking.room.repository.RoomRepository;
-import com.hotel.booking.review.repository.ReviewRepository;
+import com.hotel.booking.review.dto.RatingSummaryDTO;
+import com.hotel.booking.review.service.RoomRatingCache;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,13 +14,16 @@ import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "hotel.service", description = "서비스 메서드 실행 시간 (class/method/exception 태그)")
 public class RoomService {
     private final RoomRepository roomRepository;
-    private final ReviewRepository reviewRepository;
+    private final RoomRatingCache ratingCache;
+    private final RoomAvailabilityIndex availabilityIndex;
 
     @Transactional(readOnly = true)
     public List<RoomDTO> getAllRooms() {
@@ -27,21 +32,23 @@ public class RoomService {
     }
 
     @Transactional(readOnly = true)
+    @Timed(value = "hotel.room.search", description = "날짜 조건 객실 검색 시간")
     public List<RoomDTO> getAvailableRooms(LocalDate checkInDate, LocalDate checkOutDate) {
         if (checkInDate == null || checkOutDate == null) {
             return getAllRooms();
         }
-        List<Room> availableRooms = roomRepository.findAvailableRooms(checkInDate, checkOutDate);
         List<Room> allRooms = roomRepository.findAll();
-        return getUniqueRoomsByType(allRooms, availableRooms, checkInDate);
+        return getUniqueRoomsByType(allRooms, checkInDate, checkOutDate);
     }
 
     /**
      * 타입별로 그룹화하여 각 타입당 1개씩만 반환
      * available한 방이 있으면 available한 방 1개 반환
      * available한 방이 없으면 allBooked = true로 설정하여 반환
+     * 날짜 조건이 있으면 타입별 남은 객실 수(O(박 수))로 꽉 찬 타입은 객실별 확인 없이 allBooked 처리하고,
+     * 나머지 타입은 비어 있는 첫 객실을 찾는 즉시 중단
      */
-    private List<RoomDTO> getUniqueRoomsByType(List<Room> allRooms, List<Room> availableRooms, LocalDate checkInDate) {
+    private List<RoomDTO> getUniqueRoomsByType(List<Room> allRooms, LocalDate checkInDate, LocalDate checkOutDate) {
         // 타입별로 그룹화
         Map<String, List<Room>> roomsByType = allRooms.stream()
                 .collect(Collectors.groupingBy(Room::getType));
@@ -52,14 +59,15 @@ public class RoomService {
                     
                     // available한 방 찾기
                     Room availableRoom = null;
-                    if (availableRooms != null) {
+                    if (checkInDate == null) {
                         availableRoom = roomsOfType.stream()
-                                .filter(availableRooms::contains)
+                                .filter(Room::getAvailable)
                                 .findFirst()
                                 .orElse(null);
-                    } else {
+                    } else if (availabilityIndex.minRemaining(entry.getKey(), checkInDate, checkOutDate) != 0) {
                         availableRoom = roomsOfType.stream()
                                 .filter(Room::getAvailable)
+                                .filter(r -> availabilityIndex.isFree(r.getId(), checkInDate, checkOutDate))
                                 .findFirst()
                                 .orElse(null);
                     }
@@ -87,9 +95,9 @@ public class RoomService {
         
         // 날짜가 제공된 경우 예약 가능한 방만 필터링
         if (checkInDate != null && checkOutDate != null) {
-            List<Room> availableRooms = roomRepository.findAvailableRooms(checkInDate, checkOutDate);
+            Set<Long> availableRoomIds = findAvailableRoomIds(rooms, checkInDate, checkOutDate);
             rooms = rooms.stream()
-                    .filter(availableRooms::contains)
+                    .filter(r -> availableRoomIds.contains(r.getId()))
                     .collect(Collectors.toList());
         } else {
             // 날짜가 없으면 available = true인 방만 필터링
@@ -110,9 +118,9 @@ public class RoomService {
         
         // 날짜가 제공된 경우 예약 가능한 방만 필터링
         if (checkInDate != null && checkOutDate != null) {
-            List<Room> availableRooms = roomRepository.findAvailableRooms(checkInDate, checkOutDate);
+            Set<Long> availableRoomIds = findAvailableRoomIds(rooms, checkInDate, checkOutDate);
             rooms = rooms.stream()
-                    .filter(availableRooms::contains)
+                    .filter(r -> availableRoomIds.contains(r.getId()))
                     .collect(Collectors.toList());
         } else {
             // 날짜가 없으면 available = true인 방만 필터링
@@ -127,18 +135,21 @@ public class RoomService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 가용성 인덱스로 예약 가능한 객실 ID 조회 (DB 조회 없음)
+     * 조건: available = true 이고 [checkInDate, checkOutDate) 동안 취소되지 않은 예약이 없음
+     */
+    private Set<Long> findAvailableRoomIds(List<Room> rooms, LocalDate checkInDate, LocalDate checkOutDate) {
+        return rooms.stream()
+                .filter(Room::getAvailable)
+                .map(Room::getId)
+                .filter(id -> availabilityIndex.isFree(id, checkInDate, checkOutDate))
+                .collect(Collectors.toSet());
+    }
+
     private RoomDTO convertToDTO(Room room) {
-        // 같은 타입의 모든 방에 대한 리뷰를 가져옴
-        List<Room> roomsOfSameType = roomRepository.findAll().stream()
-                .filter(r -> r.getType().equals(room.getType()))
-                .collect(Collectors.toList());
-        
-        List<com.hotel.booking.review.entity.Review> allReviews = roomsOfSameType.stream()
-                .flatMap(r -> reviewRepository.findByRoomId(r.getId()).stream())
-                .collect(Collectors.toList());
-        
-        Double averageRating = allReviews.isEmpty() ? null : 
-            allReviews.stream().mapToInt(com.hotel.booking.review.entity.Review::getRating).average().orElse(0.0);
+        // 같은 타입의 모든 방에 대한 리뷰 평점 집계 (캐시)
+        RatingSummaryDTO rating = ratingCache.getSummary(room.getType());
 
         return RoomDTO.builder()
                 .id(room.getId())
@@ -150,8 +161,8 @@ public class RoomService {
                 .available(room.getAvailable())
                 .status(room.getStatus())
                 .imageUrl(room.getImageUrl())
-                .averageRating(averageRating)
-                .reviewCount(allReviews.size())
+                .averageRating(rating.getAverageRating())
+                .reviewCount(rating.getReviewCount().intValue())
                 .allBooked(false) // 기본값, getUniqueRoomsByType에서 설정됨
                 .viewType(room.getViewType())
                 .bedCount(room.getBedCount())
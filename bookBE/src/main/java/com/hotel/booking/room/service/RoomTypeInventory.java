@@ -0,0 +1,78 @@
+package com.hotel.booking.room.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 객실 타입별 박(night)당 예약된 객실 수 (RoomAvailabilityIndex가 관리)
+ * - 타입마다 정수 배열 하나 (칸 = 시작일로부터의 일수, 값 = 그 박에 예약된 활성 객실 수)
+ * - [체크인, 체크아웃)의 최소 남은 객실 수 = 활성 객실 수 - 구간 최대 예약 수 (O(박 수))
+ * - 시작일부터 horizon일까지만 보관, 구간 밖 조회는 -1 (호출 측이 객실별로 확인)
+ * - 타입 구성은 생성 후 바뀌지 않고(객실 변경 시 새로 생성) 배열 값만 갱신
+ */
+class RoomTypeInventory {
+    static final int UNKNOWN = -1;
+
+    private final int start; // RoomAvailabilityIndex의 일 인덱스 기준
+    private final int horizon;
+    private final Map<String, TypeNights> types = new HashMap<>();
+
+    RoomTypeInventory(int start, int horizon) {
+        this.start = start;
+        this.horizon = horizon;
+    }
+
+    int start() {
+        return start;
+    }
+
+    int end() {
+        return start + horizon;
+    }
+
+    /**
+     * 활성 객실 1개 추가 (구성 단계에서만 호출)
+     */
+    void addRoom(String type) {
+        types.computeIfAbsent(type, t -> new TypeNights(horizon)).rooms++;
+    }
+
+    /**
+     * 일 인덱스 한 박의 예약 객실 수 증감 (구간 밖은 무시)
+     */
+    void adjust(String type, int night, int delta) {
+        TypeNights nights = types.get(type);
+        if (nights != null && night >= start && night < end()) {
+            nights.booked.addAndGet(night - start, delta);
+        }
+    }
+
+    /**
+     * [from, to) 동안 모든 박에 남아 있는 최소 객실 수
+     * 0이면 그 기간 내내 비어 있는 객실이 없음, 구간 밖이거나 구성 이후 생긴 타입이면 UNKNOWN
+     */
+    int minRemaining(String type, int from, int to) {
+        if (from < start || to > end()) {
+            return UNKNOWN;
+        }
+        TypeNights nights = types.get(type);
+        if (nights == null) {
+            return UNKNOWN; // 객실 변경 이벤트 반영 전이거나 활성 객실이 없는 타입 → 객실별 확인
+        }
+        int maxBooked = 0;
+        for (int night = from; night < to; night++) {
+            maxBooked = Math.max(maxBooked, nights.booked.get(night - start));
+        }
+        return Math.max(0, nights.rooms - maxBooked);
+    }
+
+    private static class TypeNights {
+        private int rooms;
+        private final AtomicIntegerArray booked; // 예약 스레드(이벤트)와 조회 스레드가 동시에 접근
+
+        TypeNights(int horizon) {
+            this.booked = new AtomicIntegerArray(horizon);
+        }
+    }
+}
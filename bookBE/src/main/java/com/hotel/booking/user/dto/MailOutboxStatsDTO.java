@@ -0,0 +1,21 @@
+package com.hotel.booking.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메일 아웃박스 상태 (대기/실패 건수, 디스패처 누적 처리 건수)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutboxStatsDTO {
+    private Long pending;
+    private Long failed;
+    private Long sent;
+    private Long retried;
+    private Long batches;
+}
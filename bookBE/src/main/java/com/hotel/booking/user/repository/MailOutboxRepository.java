@@ -0,0 +1,33 @@
+package com.hotel.booking.user.repository;
+
+import com.hotel.booking.user.entity.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+    /**
+     * 발송할 메일 배치 조회 및 행 잠금
+     * 다른 인스턴스가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 서버가 동시에 디스패치해도 중복 발송하지 않음
+     */
+    @Query(value = "SELECT * FROM mail_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MailOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(MailOutbox.MailStatus status);
+
+    /**
+     * 처리가 끝난(SENT/FAILED) 메일 중 보관 기간이 지난 행 삭제
+     * 본문에 임시 비밀번호/인증 코드가 평문으로 들어 있으므로 오래 남기지 않음
+     */
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status IN :statuses AND m.createdAt < :cutoff")
+    int deleteFinishedBefore(@Param("statuses") List<MailOutbox.MailStatus> statuses,
+                             @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,178 @@
+package com.hotel.booking.user.service;
+
+import com.hotel.booking.user.dto.MailOutboxStatsDTO;
+import com.hotel.booking.user.entity.MailOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 아웃박스 디스패처
+ * - 대기 중인 메일을 배치로 가져와 SMTP 연결 하나로 발송 (JavaMailSender.send(메시지 배열))
+ * - 실패한 메일은 지수 백오프로 재시도하고, 최대 시도 횟수를 넘으면 FAILED 처리
+ * - 발송 중에는 DB 트랜잭션/커넥션을 잡지 않음
+ * - 처리가 끝난 메일은 보관 기간(retention-ms)이 지나면 삭제 (본문에 임시 비밀번호/인증 코드 포함)
+ */
+@Component
+@Slf4j
+public class MailOutboxDispatcher {
+    private final MailService mailService;
+    private final JavaMailSender mailSender;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
+    private final long retentionMs;
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    public MailOutboxDispatcher(
+            MailService mailService,
+            JavaMailSender mailSender,
+            @Value("${mail.outbox.enabled:true}") boolean enabled,
+            @Value("${mail.outbox.batch-size:50}") int batchSize,
+            @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${mail.outbox.backoff-ms:30000}") long backoffMs,
+            @Value("${mail.outbox.max-backoff-ms:1800000}") long maxBackoffMs,
+            @Value("${mail.outbox.lease-ms:300000}") long leaseMs,
+            @Value("${mail.outbox.retention-ms:86400000}") long retentionMs) {
+        this.mailService = mailService;
+        this.mailSender = mailSender;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+        this.retentionMs = retentionMs;
+    }
+
+    /**
+     * 대기 중인 메일이 없을 때까지 배치 발송
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            while (dispatchBatch() == batchSize) {
+                // 배치가 가득 찼으면 남은 메일이 있을 수 있으므로 계속 처리
+            }
+        } catch (Exception e) {
+            log.error("메일 아웃박스 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 배치 하나 발송
+     * @return 처리한 메일 수
+     */
+    int dispatchBatch() {
+        List<MailOutbox> batch = mailService.claimBatch(batchSize, leaseMs);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        batches.incrementAndGet();
+
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            MailOutbox mail = batch.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(mail.getRecipient());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getBody());
+            messages[i] = message;
+        }
+
+        // 메시지별 실패 (연결 실패 시에는 배치 전체가 실패 목록에 들어감)
+        Map<Object, Exception> failures = Map.of();
+        MailException batchFailure = null;
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                batchFailure = e;
+            }
+        } catch (MailException e) {
+            batchFailure = e;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < batch.size(); i++) {
+            MailOutbox mail = batch.get(i);
+            Exception failure = batchFailure != null ? batchFailure : failures.get(messages[i]);
+            if (failure == null) {
+                mail.setStatus(MailOutbox.MailStatus.SENT);
+                mail.setSentAt(now);
+                mail.setLastError(null);
+                sent.incrementAndGet();
+            } else {
+                handleFailure(mail, failure, now);
+            }
+        }
+        mailService.saveResults(batch);
+        return batch.size();
+    }
+
+    /**
+     * 보관 기간이 지난 SENT/FAILED 메일 삭제
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int purged = mailService.purgeFinished(LocalDateTime.now().minusNanos(retentionMs * 1_000_000));
+            if (purged > 0) {
+                log.info("보관 기간이 지난 메일 {}건 삭제", purged);
+            }
+        } catch (Exception e) {
+            log.error("메일 아웃박스 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public MailOutboxStatsDTO getStats() {
+        return MailOutboxStatsDTO.builder()
+                .pending(mailService.countByStatus(MailOutbox.MailStatus.PENDING))
+                .failed(mailService.countByStatus(MailOutbox.MailStatus.FAILED))
+                .sent(sent.get())
+                .retried(retried.get())
+                .batches(batches.get())
+                .build();
+    }
+
+    private void handleFailure(MailOutbox mail, Exception failure, LocalDateTime now) {
+        String error = String.valueOf(failure.getMessage());
+        mail.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+
+        if (mail.getAttempts() >= maxAttempts) {
+            mail.setStatus(MailOutbox.MailStatus.FAILED);
+            log.error("이메일 발송 최종 실패 ({}회 시도): {}", mail.getAttempts(), mail.getRecipient());
+            return;
+        }
+
+        // 지수 백오프: backoff * 2^(시도 횟수 - 1), 최대 maxBackoff
+        long delayMs = Math.min(maxBackoffMs, backoffMs << Math.min(mail.getAttempts() - 1, 20));
+        mail.setNextAttemptAt(now.plusNanos(delayMs * 1_000_000));
+        retried.incrementAndGet();
+        log.warn("이메일 발송 실패, {}ms 후 재시도 ({}회 시도): {} - {}",
+                delayMs, mail.getAttempts(), mail.getRecipient(), error);
+    }
+}
@@ -1,34 +1,76 @@
 package com.hotel.booking.user.service;
 
+import com.hotel.booking.user.entity.MailOutbox;
+import com.hotel.booking.user.repository.MailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메일 발송 요청 (아웃박스)
+ * - enqueue는 호출한 트랜잭션에 아웃박스 행만 저장 (SMTP 연결 없음)
+ * - 실제 발송은 MailOutboxDispatcher가 커밋된 행을 배치로 처리
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MailService {
-    private final JavaMailSender mailSender;
-
-    public void send(String to, String subject, String body) {
-        if (mailSender == null) {
-            log.error("JavaMailSender가 초기화되지 않았습니다. 이메일 설정을 확인해주세요.");
-            throw new RuntimeException("이메일 발송 서비스가 설정되지 않았습니다.");
-        }
-        
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-            mailSender.send(message);
-            log.info("이메일 발송 성공: {}", to);
-        } catch (Exception e) {
-            log.error("이메일 발송 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("이메일 발송에 실패했습니다: " + e.getMessage(), e);
-        }
+    private final MailOutboxRepository mailOutboxRepository;
+
+    /**
+     * 메일 발송 예약 (호출한 트랜잭션이 롤백되면 메일도 발송되지 않음)
+     */
+    @Transactional
+    public void enqueue(String to, String subject, String body) {
+        MailOutbox mail = MailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .build();
+        mailOutboxRepository.save(mail);
+        log.info("이메일 발송 예약: {}", to);
     }
-}
 
+    /**
+     * 발송할 메일 배치를 가져오고 임대 시간 동안 다른 디스패처가 가져가지 않도록 표시
+     * 디스패처가 발송 중 종료되면 임대 시간이 지난 뒤 다시 발송 대상이 됨
+     */
+    @Transactional
+    public List<MailOutbox> claimBatch(int limit, long leaseMs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> batch = mailOutboxRepository.findDueForUpdate(now, limit);
+        LocalDateTime leaseUntil = now.plusNanos(leaseMs * 1_000_000);
+        batch.forEach(mail -> {
+            mail.setAttempts(mail.getAttempts() + 1);
+            mail.setNextAttemptAt(leaseUntil);
+        });
+        return batch;
+    }
+
+    /**
+     * 발송 결과(SENT/재시도 예정/FAILED) 저장
+     */
+    @Transactional
+    public void saveResults(List<MailOutbox> batch) {
+        mailOutboxRepository.saveAll(batch);
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료/최종 실패 메일 삭제
+     * @return 삭제한 메일 수
+     */
+    @Transactional
+    public int purgeFinished(LocalDateTime cutoff) {
+        return mailOutboxRepository.deleteFinishedBefore(
+                List.of(MailOutbox.MailStatus.SENT, MailOutbox.MailStatus.FAILED), cutoff);
+    }
+
+    @Transactional(readOnly = true)
+    public long countByStatus(MailOutbox.MailStatus status) {
+        return mailOutboxRepository.countByStatus(status);
+    }
+}
@@ -1,9 +1,9 @@
 package com.hotel.booking;
 
+import com.hotel.booking.common.util.DatabaseTest;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@DatabaseTest
 class BookingApplicationTests {
 
 	@Test
@@ -0,0 +1,185 @@
+package com.hotel.booking.admin.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.booking.admin.dto.DashboardDTO;
+import com.hotel.booking.room.entity.Room;
+import com.hotel.booking.room.event.RoomChanged;
+import com.hotel.booking.room.event.RoomStatusChanged;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대시보드 SSE 스트림을 AdminService mock으로 검증 (snapshot/delta 내용, 연결이 없을 때 재계산 생략)
+ */
+class DashboardStreamServiceTests {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AdminService adminService = mock(AdminService.class);
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    private DashboardStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        when(adminService.getDashboard(anyInt(), anyInt())).thenReturn(dashboard(3));
+        when(adminService.getCurrentStays()).thenReturn(List.of());
+        service = new DashboardStreamService(adminService, objectMapper, 60000) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    void subscribeSendsFullSnapshot() throws Exception {
+        service.subscribe();
+
+        List<Sent> sent = emitters.get(0).sent;
+        assertEquals(1, sent.size());
+        assertEquals("snapshot", sent.get(0).name());
+        JsonNode data = sent.get(0).data();
+        for (String field : List.of("todayCheckIns", "todayCheckOuts", "monthlyStats", "roomStatusSummary", "currentStays")) {
+            assertTrue(data.has(field), field);
+        }
+        assertEquals(1, service.getConnectionCount());
+    }
+
+    @Test
+    void deltaContainsOnlyChangedSections() throws Exception {
+        service.subscribe();
+        when(adminService.getDashboard(anyInt(), anyInt())).thenReturn(dashboard(4));
+
+        service.onEvents(List.of(new RoomStatusChanged(1L, Room.RoomStatus.CLEAN, Room.RoomStatus.DIRTY)));
+        service.refresh();
+
+        List<Sent> sent = emitters.get(0).sent;
+        assertEquals(2, sent.size());
+        assertEquals("delta", sent.get(1).name());
+        JsonNode delta = sent.get(1).data();
+        assertEquals(4, delta.get("monthlyStats").get("totalBookings").asInt());
+        assertFalse(delta.has("todayCheckIns"));
+        assertFalse(delta.has("todayCheckOuts"));
+        assertFalse(delta.has("roomStatusSummary"));
+        assertFalse(delta.has("currentStays"));
+    }
+
+    @Test
+    void unchangedRecomputeSendsNothing() {
+        service.subscribe();
+
+        service.onEvents(List.of(new RoomChanged(1L)));
+        service.refresh();
+
+        assertEquals(2, service.getRecomputations());
+        assertEquals(1, emitters.get(0).sent.size());
+    }
+
+    @Test
+    void noRecomputeWithoutSubscribers() {
+        service.onEvents(List.of(new RoomChanged(1L)));
+        service.refresh();
+
+        assertEquals(0, service.getRecomputations());
+        verify(adminService, never()).getDashboard(anyInt(), anyInt());
+
+        // 첫 연결 시 한 번 계산, 변경이 없으면 주기 재계산 없음
+        service.subscribe();
+        service.refresh();
+        verify(adminService, times(1)).getDashboard(anyInt(), anyInt());
+    }
+
+    @Test
+    void changeSeenByNewSubscriberIsStillSentToExistingOnes() throws Exception {
+        service.subscribe();
+        when(adminService.getDashboard(anyInt(), anyInt())).thenReturn(dashboard(4));
+        service.onEvents(List.of(new RoomStatusChanged(1L, Room.RoomStatus.CLEAN, Room.RoomStatus.DIRTY)));
+
+        // 기존 연결이 있으면 새 연결은 재계산 없이 현재 상태를 받고, 변경분은 refresh()가 모두에게 전송
+        service.subscribe();
+        service.refresh();
+
+        List<Sent> first = emitters.get(0).sent;
+        assertEquals(2, first.size());
+        assertEquals("delta", first.get(1).name());
+        assertEquals(4, first.get(1).data().get("monthlyStats").get("totalBookings").asInt());
+        List<Sent> second = emitters.get(1).sent;
+        assertEquals(2, second.size());
+        assertEquals(3, second.get(0).data().get("monthlyStats").get("totalBookings").asInt());
+        assertEquals(4, second.get(1).data().get("monthlyStats").get("totalBookings").asInt());
+    }
+
+    @Test
+    void closedConnectionIsDropped() {
+        service.subscribe();
+        emitters.get(0).closed = true;
+
+        service.heartbeat();
+
+        assertEquals(0, service.getConnectionCount());
+    }
+
+    private DashboardDTO dashboard(int monthlyBookings) {
+        return DashboardDTO.builder()
+                .todayCheckIns(List.of())
+                .todayCheckOuts(List.of())
+                .monthlyStats(DashboardDTO.MonthlyStatsDTO.builder()
+                        .totalBookings(monthlyBookings)
+                        .totalRevenue(BigDecimal.valueOf(monthlyBookings * 100000L))
+                        .averageBookingAmount(BigDecimal.valueOf(100000))
+                        .build())
+                .roomStatusSummary(DashboardDTO.RoomStatusSummaryDTO.builder()
+                        .booked(1L).available(2L).cleaningNeeded(0L).maintenance(0L).inUse(1L)
+                        .build())
+                .build();
+    }
+
+    private record Sent(String name, JsonNode data) {
+    }
+
+    /**
+     * 전송한 SSE 이벤트를 기록하는 emitter (closed면 끊긴 연결처럼 실패)
+     */
+    private class RecordingEmitter extends SseEmitter {
+        private final List<Sent> sent = new ArrayList<>();
+        private volatile boolean closed;
+
+        @Override
+        public synchronized void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            if (closed) {
+                throw new IOException("closed");
+            }
+            String name = null;
+            JsonNode data = null;
+            for (ResponseBodyEmitter.DataWithMediaType item : items) {
+                if (MediaType.APPLICATION_JSON.equals(item.getMediaType())) {
+                    data = objectMapper.readTree((String) item.getData());
+                } else if (item.getData().toString().startsWith("event:")) {
+                    name = item.getData().toString().lines().findFirst().orElseThrow().substring("event:".length());
+                }
+            }
+            sent.add(new Sent(name, data));
+        }
+    }
+}
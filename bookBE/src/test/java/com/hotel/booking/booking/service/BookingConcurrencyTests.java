@@ -0,0 +1,99 @@
+package com.hotel.booking.booking.service;
+
+import com.hotel.booking.booking.dto.BookingRequest;
+import com.hotel.booking.booking.entity.Booking;
+import com.hotel.booking.booking.repository.BookingRepository;
+import com.hotel.booking.common.util.DatabaseTest;
+import com.hotel.booking.payment.entity.Payment;
+import com.hotel.booking.room.entity.Room;
+import com.hotel.booking.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 한 객실/같은 날짜에 대량의 동시 예약 요청이 들어와도 정확히 1건만 성공하는지 검증
+ */
+@DatabaseTest
+@Import(BookingTestFixture.class)
+class BookingConcurrencyTests {
+    private static final int REQUESTS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private BookingTestFixture fixture;
+
+    private User user;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.createUser("cc");
+        room = fixture.createRoom("concurrency");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void onlyOneOfManyConcurrentBookingsForSameRoomSucceeds() throws Exception {
+        LocalDate checkIn = LocalDate.now().plusYears(3);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bookingService.createBooking(user.getId(), request(checkIn, checkIn.plusDays(2)));
+                    succeeded.incrementAndGet();
+                } catch (RuntimeException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertEquals(1, succeeded.get());
+        assertEquals(REQUESTS - 1, rejected.get());
+        assertEquals(1, bookingRepository.findByRoomAndStatus(room, Booking.BookingStatus.CONFIRMED).size());
+    }
+
+    private BookingRequest request(LocalDate checkIn, LocalDate checkOut) {
+        BookingRequest request = new BookingRequest();
+        request.setRoomId(room.getId());
+        request.setCheckInDate(checkIn);
+        request.setCheckOutDate(checkOut);
+        request.setGuests(2);
+        request.setMethod(Payment.PaymentMethod.CARD);
+        return request;
+    }
+}
@@ -0,0 +1,163 @@
+package com.hotel.booking.booking.service;
+
+import com.hotel.booking.booking.dto.BookingDTO;
+import com.hotel.booking.booking.dto.BookingGroupDTO;
+import com.hotel.booking.booking.dto.GroupBookingRequest;
+import com.hotel.booking.booking.entity.Booking;
+import com.hotel.booking.booking.repository.BookingRepository;
+import com.hotel.booking.common.util.DatabaseTest;
+import com.hotel.booking.payment.entity.Payment;
+import com.hotel.booking.room.entity.Room;
+import com.hotel.booking.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 같은 타입 객실에 단체 예약이 동시에 몰려도 객실이 중복 배정되지 않고 전체 단위로만 성공/실패하는지 검증
+ */
+@DatabaseTest
+@Import(BookingTestFixture.class)
+class BookingGroupConcurrencyTests {
+    private static final int ROOMS = 6;
+    private static final int ROOMS_PER_GROUP = 2;
+    private static final int REQUESTS = 12;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private BookingTestFixture fixture;
+
+    private final List<BookingGroupDTO> created = new CopyOnWriteArrayList<>();
+    private User user;
+    private LocalDate checkIn;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.createUser("gc");
+        checkIn = LocalDate.now().plusYears(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void concurrentGroupBookingsNeverShareRooms() throws Exception {
+        fixture.createRooms("group", ROOMS);
+
+        runConcurrently(REQUESTS, () -> created.add(
+                bookingService.createGroupBooking(user.getId(), request(checkIn, checkIn.plusDays(2)))));
+
+        // 성공한 단체 예약은 항상 요청 수량 전체를 배정받고, 배정 객실은 서로 겹치지 않음
+        assertEquals(ROOMS / ROOMS_PER_GROUP, created.size());
+        Set<Long> allocated = created.stream()
+                .peek(group -> assertEquals(ROOMS_PER_GROUP, group.getBookings().size()))
+                .flatMap(group -> group.getBookings().stream())
+                .map(BookingDTO::getRoomId)
+                .collect(Collectors.toSet());
+        assertEquals(ROOMS, allocated.size());
+        created.forEach(group -> assertEquals(0, group.getPayment().getAmount()
+                .compareTo(BookingTestFixture.PRICE_PER_NIGHT.multiply(BigDecimal.valueOf(2L * ROOMS_PER_GROUP)))));
+    }
+
+    @Test
+    void roomsBookedOutsideIndexAreSkippedAndNextFreeRoomsAllocated() {
+        List<Room> rooms = fixture.createRooms("group-fallback", ROOMS_PER_GROUP * 2 + 5);
+        // 가용성 인덱스를 거치지 않은 예약 (이벤트 없음): 인덱스는 비어 있다고 보지만 DB에는 예약이 있음
+        List<Room> bookedOutsideIndex = rooms.subList(0, ROOMS_PER_GROUP + 5);
+        bookedOutsideIndex.forEach(room -> bookingRepository.save(Booking.builder()
+                .user(user)
+                .room(room)
+                .checkInDate(checkIn)
+                .checkOutDate(checkIn.plusDays(2))
+                .guests(2)
+                .totalPrice(BookingTestFixture.PRICE_PER_NIGHT.multiply(BigDecimal.valueOf(2)))
+                .build()));
+
+        BookingGroupDTO group = bookingService.createGroupBooking(user.getId(), request(checkIn, checkIn.plusDays(2)));
+
+        Set<Long> expected = rooms.subList(ROOMS_PER_GROUP + 5, rooms.size()).stream()
+                .map(Room::getId)
+                .collect(Collectors.toSet());
+        Set<Long> allocated = group.getBookings().stream()
+                .map(BookingDTO::getRoomId)
+                .collect(Collectors.toSet());
+        assertEquals(expected, allocated);
+    }
+
+    @Test
+    void concurrentCancelsOfSameGroupSucceedOnce() throws Exception {
+        fixture.createRooms("group-cancel", ROOMS_PER_GROUP);
+        BookingGroupDTO group = bookingService.createGroupBooking(user.getId(), request(checkIn, checkIn.plusDays(2)));
+        AtomicInteger cancelled = new AtomicInteger();
+
+        runConcurrently(8, () -> {
+            bookingService.cancelGroupBooking(group.getId(), user.getId());
+            cancelled.incrementAndGet();
+        });
+
+        assertEquals(1, cancelled.get());
+        assertEquals(ROOMS_PER_GROUP, bookingRepository.findByGroupIdWithDetails(group.getId()).stream()
+                .filter(booking -> booking.getStatus() == Booking.BookingStatus.CANCELLED)
+                .count());
+    }
+
+    /**
+     * 같은 시점에 시작해 동시에 실행 (거절된 요청의 예외는 무시)
+     */
+    private void runConcurrently(int requests, Runnable action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit((Callable<Void>) () -> {
+                start.await();
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    // 객실 부족/동시 처리/이미 취소로 거절
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+    }
+
+    private GroupBookingRequest request(LocalDate checkIn, LocalDate checkOut) {
+        GroupBookingRequest request = new GroupBookingRequest();
+        request.setRoomType(fixture.roomType());
+        request.setQuantity(ROOMS_PER_GROUP);
+        request.setCheckInDate(checkIn);
+        request.setCheckOutDate(checkOut);
+        request.setGuestsPerRoom(2);
+        request.setMethod(Payment.PaymentMethod.CARD);
+        return request;
+    }
+}
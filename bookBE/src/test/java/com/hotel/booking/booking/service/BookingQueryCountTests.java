@@ -0,0 +1,135 @@
+package com.hotel.booking.booking.service;
+
+import com.hotel.booking.booking.dto.BookingDTO;
+import com.hotel.booking.booking.dto.BookingRequest;
+import com.hotel.booking.booking.dto.BulkBookingRequest;
+import com.hotel.booking.booking.dto.GroupBookingRequest;
+import com.hotel.booking.booking.entity.Booking;
+import com.hotel.booking.booking.repository.BookingRepository;
+import com.hotel.booking.common.util.DatabaseTest;
+import com.hotel.booking.common.util.QueryBudget;
+import com.hotel.booking.payment.entity.Payment;
+import com.hotel.booking.room.entity.Room;
+import com.hotel.booking.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 예약 목록 조회가 예약 건수와 관계없이 한 번의 쿼리로 끝나는지, 단체 예약이 배치 insert로 저장되는지 검증
+ * SQL 수는 테스트 스레드 기준(@QueryBudget)으로 셈: Hibernate 통계는 전역이라 비동기 구독자(통계 집계 등)의 쿼리가 섞임
+ */
+@DatabaseTest
+@Import(BookingTestFixture.class)
+class BookingQueryCountTests {
+    private static final int BOOKINGS = 5;
+
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private BookingTestFixture fixture;
+
+    private User user;
+    private Room room;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.createUser("qc");
+        room = fixture.createRoom("query-count");
+        fixture.createBookings(user, room, BOOKINGS);
+
+        // 단체 예약 1건: 첫 예약과 같은 날짜라 두 번째 객실에 배정됨 (결제는 단체 예약에 1건)
+        fixture.createRoom("query-count-group");
+        GroupBookingRequest group = new GroupBookingRequest();
+        group.setRoomType(fixture.roomType());
+        group.setQuantity(1);
+        group.setCheckInDate(LocalDate.now().plusYears(3));
+        group.setCheckOutDate(LocalDate.now().plusYears(3).plusDays(1));
+        group.setGuestsPerRoom(1);
+        group.setMethod(Payment.PaymentMethod.CARD);
+        groupId = bookingService.createGroupBooking(user.getId(), group).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    @QueryBudget(1)
+    void getUserBookingsLoadsRoomUserAndPaymentInOneQuery() {
+        List<BookingDTO> bookings = bookingService.getUserBookings(user.getId());
+
+        assertEquals(BOOKINGS + 1, bookings.size());
+        bookings.forEach(b -> assertNotNull(b.getPayment()));
+        // 단체 예약에 속한 예약은 단체 예약 결제로 표시
+        BookingDTO member = bookings.stream()
+                .filter(b -> groupId.equals(b.getGroupId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(groupId, member.getPayment().getGroupId());
+    }
+
+    @Test
+    @QueryBudget(1)
+    void getReviewableBookingsIsOneQuery() {
+        bookingService.getReviewableBookings(user.getId());
+    }
+
+    /**
+     * 예약/결제 40행을 행마다 insert하면 40회 이상
+     * 사용자 조회, 객실 잠금, 기존 예약 조회, 시퀀스 조회(테이블당 최대 2회), 예약/결제 배치 insert 각 1회
+     */
+    @Test
+    @QueryBudget(9)
+    void createBookingsInsertsAllBookingsInBatches() {
+        List<BookingDTO> created = bookingService.createBookings(user.getId(), bulkRequest(20, 30));
+
+        assertEquals(20, created.size());
+        created.forEach(b -> assertNotNull(b.getPayment()));
+    }
+
+    @Test
+    void createBookingsRollsBackWhenAnyBookingOverlaps() {
+        BulkBookingRequest request = bulkRequest(3, 30);
+        BookingRequest overlapping = request.getBookings().get(2);
+        overlapping.setCheckInDate(LocalDate.now().plusYears(3)); // 기존 첫 예약과 같은 날짜
+        overlapping.setCheckOutDate(LocalDate.now().plusYears(3).plusDays(1));
+
+        assertThrows(RuntimeException.class, () -> bookingService.createBookings(user.getId(), request));
+        assertEquals(BOOKINGS, bookingRepository.findByRoomAndStatus(room, Booking.BookingStatus.CONFIRMED).size());
+    }
+
+    /**
+     * 기존 예약 이후 offsetDays부터 하루씩 이어지는 숙박 count건
+     */
+    private BulkBookingRequest bulkRequest(int count, int offsetDays) {
+        LocalDate checkIn = LocalDate.now().plusYears(3).plusDays(offsetDays);
+        List<BookingRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BookingRequest request = new BookingRequest();
+            request.setRoomId(room.getId());
+            request.setCheckInDate(checkIn.plusDays(i));
+            request.setCheckOutDate(checkIn.plusDays(i + 1));
+            request.setGuests(1);
+            request.setMethod(Payment.PaymentMethod.CARD);
+            requests.add(request);
+        }
+        BulkBookingRequest bulk = new BulkBookingRequest();
+        bulk.setBookings(requests);
+        return bulk;
+    }
+}
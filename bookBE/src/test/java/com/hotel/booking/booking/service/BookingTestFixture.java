@@ -0,0 +1,127 @@
+package com.hotel.booking.booking.service;
+
+import com.hotel.booking.booking.dto.BookingDTO;
+import com.hotel.booking.booking.dto.BookingRequest;
+import com.hotel.booking.payment.entity.Payment;
+import com.hotel.booking.room.entity.Room;
+import com.hotel.booking.room.repository.RoomRepository;
+import com.hotel.booking.user.entity.User;
+import com.hotel.booking.user.repository.UserRepository;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예약 통합 테스트 공통 데이터 (@Import로 사용, @DatabaseTest와 함께)
+ * - 사용자/객실 이름과 객실 타입에 임의 접미사를 붙여 다른 테스트 데이터와 겹치지 않음
+ * - cleanUp은 이 픽스처로 만든 사용자/객실과 거기에 딸린 예약/단체 예약/결제/통계 행만 삭제
+ */
+@TestComponent
+public class BookingTestFixture {
+    public static final BigDecimal PRICE_PER_NIGHT = BigDecimal.valueOf(100000);
+
+    private final UserRepository userRepository;
+    private final RoomRepository roomRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingService bookingService;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Room> rooms = new ArrayList<>();
+    private String suffix;
+
+    BookingTestFixture(UserRepository userRepository, RoomRepository roomRepository, JdbcTemplate jdbcTemplate,
+                       BookingService bookingService) {
+        this.userRepository = userRepository;
+        this.roomRepository = roomRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookingService = bookingService;
+        this.suffix = newSuffix();
+    }
+
+    /**
+     * 이 테스트 전용 객실 타입 (cleanUp 후 새 접미사)
+     */
+    public String roomType() {
+        return "TEST-" + suffix;
+    }
+
+    public User createUser(String prefix) {
+        User user = userRepository.save(User.builder()
+                .id(prefix + suffix)
+                .password("password")
+                .email(prefix + suffix + "@test.local")
+                .nickname(prefix)
+                .build());
+        users.add(user);
+        return user;
+    }
+
+    /**
+     * 테스트 전용 타입의 2인실 count개 (1박 100,000원)
+     */
+    public List<Room> createRooms(String prefix, int count) {
+        List<Room> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            created.add(roomRepository.save(Room.builder()
+                    .name(prefix + "-" + suffix + "-" + i)
+                    .description(prefix + " test room")
+                    .type(roomType())
+                    .capacity(2)
+                    .pricePerNight(PRICE_PER_NIGHT)
+                    .build()));
+        }
+        rooms.addAll(created);
+        return created;
+    }
+
+    public Room createRoom(String prefix) {
+        return createRooms(prefix, 1).get(0);
+    }
+
+    /**
+     * 3년 뒤부터 이틀 간격으로 1박씩 count건 예약 (1명, 카드 결제)
+     */
+    public List<BookingDTO> createBookings(User user, Room room, int count) {
+        LocalDate checkIn = LocalDate.now().plusYears(3);
+        List<BookingDTO> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BookingRequest request = new BookingRequest();
+            request.setRoomId(room.getId());
+            request.setCheckInDate(checkIn.plusDays(i * 2L));
+            request.setCheckOutDate(checkIn.plusDays(i * 2L + 1));
+            request.setGuests(1);
+            request.setMethod(Payment.PaymentMethod.CARD);
+            created.add(bookingService.createBooking(user.getId(), request));
+        }
+        return created;
+    }
+
+    /**
+     * 만든 행만 삭제 (통계 롤업은 커밋 후 비동기로 반영되므로 이 타입 행이 늦게 생길 수 있으나 다른 테스트와 겹치지 않음)
+     */
+    public void cleanUp() {
+        for (Room room : rooms) {
+            jdbcTemplate.update("DELETE FROM payments WHERE booking_id IN (SELECT id FROM bookings WHERE room_id = ?) " +
+                    "OR group_id IN (SELECT group_id FROM bookings WHERE room_id = ?)", room.getId(), room.getId());
+            jdbcTemplate.update("DELETE FROM bookings WHERE room_id = ?", room.getId());
+        }
+        for (User user : users) {
+            jdbcTemplate.update("DELETE FROM booking_groups WHERE user_id = ?", user.getId());
+        }
+        jdbcTemplate.update("DELETE FROM booking_daily_stats WHERE room_type = ?", roomType());
+        roomRepository.deleteAll(rooms);
+        userRepository.deleteAll(users);
+        rooms.clear();
+        users.clear();
+        suffix = newSuffix();
+    }
+
+    private static String newSuffix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.hotel.booking.booking.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 객실 잠금: 스트라이프가 적으면 트랜잭션 종료까지 잡고, 객실이 많으면 잡지 않고 DB 행 잠금에 맡김
+ */
+class ReservationLockManagerTests {
+    private final ReservationLockManager lockManager = new ReservationLockManager(64, 100);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void fewRoomsAreLockedUntilTransactionEnds() throws InterruptedException {
+        assertTrue(lockManager.lockRoomsUntilTransactionEnds(List.of(1L, 2L, 3L)));
+        assertFalse(otherThreadCanLock(2L));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertTrue(otherThreadCanLock(2L));
+    }
+
+    @Test
+    void manyRoomsSkipStripesSoOtherRoomsAreNotBlocked() throws InterruptedException {
+        List<Long> rooms = LongStream.rangeClosed(1, 100).boxed().toList();
+
+        assertFalse(lockManager.lockRoomsUntilTransactionEnds(rooms));
+
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        assertTrue(otherThreadCanLock(50L));
+        assertEquals(1, lockManager.getStats().getBypassed());
+    }
+
+    /**
+     * 다른 스레드에서 같은 객실 잠금을 얻을 수 있는지 (대기 시간 초과면 false)
+     */
+    private boolean otherThreadCanLock(Long roomId) throws InterruptedException {
+        boolean[] locked = new boolean[1];
+        Thread thread = Thread.ofPlatform().start(() -> {
+            try {
+                locked[0] = lockManager.withRoomLock(roomId, () -> true);
+            } catch (RuntimeException e) {
+                locked[0] = false;
+            }
+        });
+        thread.join();
+        return locked[0];
+    }
+}
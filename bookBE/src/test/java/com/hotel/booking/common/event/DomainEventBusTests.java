@@ -0,0 +1,260 @@
+package com.hotel.booking.common.event;
+
+import com.hotel.booking.room.event.RoomChanged;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DomainEventBusTests {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DomainEventBus bus;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bus.stop();
+    }
+
+    @Test
+    void listenersReceiveEventsInPublishOrder() throws InterruptedException {
+        int events = 1000;
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(events);
+        DomainEventListener listener = batch -> batch.forEach(event -> {
+            received.add(((RoomChanged) event).roomId());
+            done.countDown();
+        });
+        bus = new DomainEventBus(List.of(listener), registry, events, 8);
+        bus.start();
+
+        for (long i = 0; i < events; i++) {
+            bus.publish(new RoomChanged(i)); // 트랜잭션 밖이면 즉시 큐에 추가
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < events; i++) {
+            assertEquals(i, received.get(i));
+        }
+        assertEquals(events, registry.get("hotel.domain.events.delivered").counter().count());
+    }
+
+    @Test
+    void failingListenerDoesNotBlockOthers() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        DomainEventListener failing = batch -> {
+            throw new IllegalStateException("실패");
+        };
+        DomainEventListener working = batch -> delivered.countDown();
+        bus = new DomainEventBus(List.of(failing, working), registry, 16, 8);
+        bus.start();
+
+        bus.publish(new RoomChanged(1L));
+
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        double failures = registry.get("hotel.domain.events.failures").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        assertEquals(1, failures);
+    }
+
+    @Test
+    void synchronousListenerRunsOnPublisherThreadBeforePublishReturns() {
+        List<Thread> threads = new ArrayList<>();
+        DomainEventListener listener = new DomainEventListener() {
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                threads.add(Thread.currentThread());
+            }
+
+            @Override
+            public boolean synchronous() {
+                return true;
+            }
+        };
+        bus = new DomainEventBus(List.of(listener), registry, 16, 8);
+        bus.start();
+
+        bus.publish(new RoomChanged(1L));
+
+        assertEquals(1, threads.size());
+        assertSame(Thread.currentThread(), threads.get(0));
+    }
+
+    @Test
+    void fullQueueDropsWithoutBlockingAndResyncs() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch resynced = new CountDownLatch(1);
+        AtomicInteger resyncs = new AtomicInteger();
+        DomainEventListener listener = new DomainEventListener() {
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS); // 디스패처를 붙잡아 큐가 차게 함
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void resync() {
+                resyncs.incrementAndGet();
+                resynced.countDown();
+            }
+        };
+        bus = new DomainEventBus(List.of(listener), registry, 2, 8);
+        bus.start();
+
+        bus.publish(new RoomChanged(0L));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        for (long i = 1; i < 10; i++) {
+            bus.publish(new RoomChanged(i)); // 2건은 큐에, 나머지 7건은 대기 없이 버려짐
+        }
+        assertEquals(7, registry.get("hotel.domain.events.dropped").counter().count());
+
+        release.countDown();
+        assertTrue(resynced.await(10, TimeUnit.SECONDS));
+        assertEquals(1, resyncs.get());
+    }
+
+    @Test
+    void publishDuringResyncWaitsAndIsDeliveredOnlyAfterIt() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch resyncing = new CountDownLatch(1);
+        CountDownLatch finishResync = new CountDownLatch(1);
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        DomainEventListener listener = new DomainEventListener() {
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                events.forEach(event -> received.add(((RoomChanged) event).roomId()));
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void resync() {
+                resyncing.countDown();
+                try {
+                    finishResync.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        bus = new DomainEventBus(List.of(listener), registry, 1, 8);
+        bus.start();
+
+        bus.publish(new RoomChanged(0L));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        bus.publish(new RoomChanged(1L)); // 큐에 들어가지만 재동기화 결과에 포함되므로 전달되지 않음
+        bus.publish(new RoomChanged(2L)); // 버려짐 → 재동기화
+        release.countDown();
+        assertTrue(resyncing.await(10, TimeUnit.SECONDS));
+
+        // 재동기화 중 발행은 게이트에서 기다림 (재동기화 결과와 delta에 중복 반영되지 않음)
+        Thread publisher = Thread.ofPlatform().start(() -> bus.publish(new RoomChanged(3L)));
+        publisher.join(200);
+        assertTrue(publisher.isAlive());
+
+        finishResync.countDown();
+        publisher.join(TimeUnit.SECONDS.toMillis(10));
+        bus.stop();
+        assertEquals(List.of(0L, 3L), received);
+    }
+
+    @Test
+    void resyncIsDeferredWhileCommitsKeepTheGateOpen() throws InterruptedException {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        AtomicInteger resyncs = new AtomicInteger();
+        DomainEventListener committing = new DomainEventListener() {
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                if (((RoomChanged) events.get(0)).roomId() == 99L) {
+                    holding.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS); // 발행 스레드가 게이트 읽기 잠금을 잡고 있음
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+
+            @Override
+            public boolean synchronous() {
+                return true;
+            }
+        };
+        DomainEventListener rollup = new DomainEventListener() {
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                delivered.countDown();
+            }
+
+            @Override
+            public void resync() {
+                resyncs.incrementAndGet();
+            }
+        };
+        bus = new DomainEventBus(List.of(committing, rollup), registry, 100, 8);
+        bus.start();
+
+        Thread publisher = Thread.ofPlatform().start(() -> bus.publish(new RoomChanged(99L)));
+        assertTrue(holding.await(10, TimeUnit.SECONDS));
+        bus.requestResync();
+        bus.publish(new RoomChanged(1L));
+
+        // 게이트를 닫지 못해도 디스패처는 멈추지 않고 큐의 이벤트를 계속 전달
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        assertEquals(0, resyncs.get());
+
+        release.countDown();
+        publisher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Test
+    void eventsPublishedWhileStoppingAreDeliveredByOneThreadAtATime() throws InterruptedException {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        AtomicInteger delivered = new AtomicInteger();
+        DomainEventListener listener = batch -> {
+            if (active.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            delivered.addAndGet(batch.size());
+            active.decrementAndGet();
+        };
+        bus = new DomainEventBus(List.of(listener), registry, 10000, 8);
+        bus.start();
+
+        int events = 2000;
+        Thread publisher = Thread.ofPlatform().start(() -> {
+            for (long i = 0; i < events; i++) {
+                bus.publish(new RoomChanged(i));
+            }
+        });
+        bus.stop();
+        publisher.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertEquals(events, delivered.get());
+        assertEquals(0, overlaps.get());
+    }
+}
@@ -0,0 +1,47 @@
+package com.hotel.booking.common.util;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 통합 테스트 데이터소스를 내장 PostgreSQL로 지정 (설정 파일의 hoteldb에 접속하지 않음)
+ * - 네이티브 쿼리(ON CONFLICT, generate_series, SKIP LOCKED)가 있어 H2 대신 실제 PostgreSQL 사용
+ * - 테스트 JVM당 인스턴스 하나를 모든 스프링 컨텍스트가 공유, JVM 종료 시 삭제
+ */
+public class EmbeddedPostgresInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        EmbeddedPostgres postgres = Holder.POSTGRES;
+        TestPropertyValues.of(
+                "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "spring.datasource.username=postgres",
+                "spring.datasource.password=postgres"
+        ).applyTo(context.getEnvironment());
+    }
+
+    private static final class Holder {
+        private static final EmbeddedPostgres POSTGRES = start();
+
+        private static EmbeddedPostgres start() {
+            try {
+                EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        postgres.close();
+                    } catch (IOException ignored) {
+                        // 임시 디렉터리는 다음 실행 시 정리됨
+                    }
+                }));
+                return postgres;
+            } catch (IOException e) {
+                throw new UncheckedIOException("내장 PostgreSQL 시작 실패", e);
+            }
+        }
+    }
+}
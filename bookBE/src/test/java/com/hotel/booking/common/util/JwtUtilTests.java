@@ -0,0 +1,65 @@
+package com.hotel.booking.common.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtUtilTests {
+
+    private JwtUtil jwtUtil(long expirationMs) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "testSecretKeyForJwtUtilTests1234567890123456789012");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", expirationMs);
+        ReflectionTestUtils.setField(jwtUtil, "cacheSize", 2);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    @Test
+    void parseClaimsReturnsCachedClaimsForSameToken() {
+        JwtUtil jwtUtil = jwtUtil(60_000);
+        String token = jwtUtil.generateToken("user1", "USER");
+
+        Claims first = jwtUtil.parseClaims(token);
+        Claims second = jwtUtil.parseClaims(token);
+
+        assertSame(first, second);
+        assertEquals("user1", jwtUtil.getIdFromToken(token));
+        assertEquals("USER", jwtUtil.getRoleFromToken(token));
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        JwtUtil jwtUtil = jwtUtil(60_000);
+        String token = jwtUtil.generateToken("user1", "USER");
+        jwtUtil.parseClaims(token);
+
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.parseClaims(tampered));
+        assertFalse(jwtUtil.validateToken(tampered));
+        assertTrue(jwtUtil.validateToken(token));
+    }
+
+    @Test
+    void expiredTokenIsNotServedFromCache() throws InterruptedException {
+        JwtUtil jwtUtil = jwtUtil(1_000);
+        String token = jwtUtil.generateToken("user1", "USER");
+        assertTrue(jwtUtil.validateToken(token));
+
+        // exp 클레임은 초 단위이므로 여유 있게 대기
+        Thread.sleep(2_100);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parseClaims(token));
+        assertFalse(jwtUtil.validateToken(token));
+    }
+}
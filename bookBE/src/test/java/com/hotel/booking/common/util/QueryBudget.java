@@ -0,0 +1,19 @@
+package com.hotel.booking.common.util;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행할 수 있는 최대 SQL 수 (@BeforeEach/@AfterEach는 제외)
+ * 초과하면 테스트 실패. 스프링 컨텍스트의 DataSource가 DataSourceProxyConfig로 감싸져 있어야 함
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+    int value();
+}
@@ -0,0 +1,27 @@
+package com.hotel.booking.common.util;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * @QueryBudget 처리: 테스트 메서드 실행 동안 QueryCounter로 SQL 수를 세고 예산 초과 시 실패
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        long count = QueryCounter.stop();
+        int budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class).value();
+        if (count > budget) {
+            throw new AssertionFailedError(String.format(
+                    "%s: SQL %d회 실행 (예산 %d회)", context.getDisplayName(), count, budget), budget, count);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.hotel.booking.notice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.booking.notice.dto.NoticeDTO;
+import com.hotel.booking.notice.entity.Notice;
+import com.hotel.booking.notice.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NoticeServiceTests {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private NoticeRepository noticeRepository;
+    private NoticeService noticeService;
+
+    @BeforeEach
+    void setUp() {
+        noticeRepository = mock(NoticeRepository.class);
+        noticeService = new NoticeService(noticeRepository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void onlyPublicNoticesInPeriodAreVisible() {
+        when(noticeRepository.findAllByOrderByImportantDescCreatedAtDesc()).thenReturn(List.of(
+                notice(1L, true, null, null),
+                notice(2L, false, null, null),
+                notice(3L, true, TODAY.plusDays(1), null),
+                notice(4L, true, null, TODAY.minusDays(1)),
+                notice(5L, true, TODAY, TODAY)));
+
+        List<NoticeDTO> notices = noticeService.getAllNotices();
+
+        assertEquals(List.of(1L, 5L), notices.stream().map(NoticeDTO::getId).toList());
+    }
+
+    @Test
+    void snapshotIsServedWithoutQueryUntilRebuilt() {
+        when(noticeRepository.findAllByOrderByImportantDescCreatedAtDesc())
+                .thenReturn(List.of(notice(1L, true, null, null)));
+
+        String etag = noticeService.getSnapshot().etag();
+        noticeService.getAllNotices();
+        assertEquals(etag, noticeService.rebuild().etag());
+        verify(noticeRepository, times(2)).findAllByOrderByImportantDescCreatedAtDesc();
+
+        when(noticeRepository.findAllByOrderByImportantDescCreatedAtDesc())
+                .thenReturn(List.of(notice(1L, true, null, null), notice(2L, true, null, null)));
+        assertNotEquals(etag, noticeService.rebuild().etag());
+    }
+
+    private Notice notice(Long id, boolean isPublic, LocalDate startDate, LocalDate endDate) {
+        return Notice.builder()
+                .id(id)
+                .title("공지 " + id)
+                .content("내용")
+                .isPublic(isPublic)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.hotel.booking.payment.service;
+
+import com.hotel.booking.booking.service.BookingTestFixture;
+import com.hotel.booking.common.dto.CursorPage;
+import com.hotel.booking.common.util.DatabaseTest;
+import com.hotel.booking.payment.dto.PaymentDTO;
+import com.hotel.booking.room.entity.Room;
+import com.hotel.booking.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 결제 내역 커서 페이지(/api/payments/page)가 nextCursor로 이어 조회할 때 빠짐/중복 없이 id 내림차순으로 이어지는지 검증
+ */
+@DatabaseTest
+@Import(BookingTestFixture.class)
+class PaymentPageTests {
+    private static final int BOOKINGS = 5;
+
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private BookingTestFixture fixture;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = fixture.createUser("pp");
+        Room room = fixture.createRoom("payment-page");
+        fixture.createBookings(user, room, BOOKINGS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void nextCursorContinuesWithoutGapsOrDuplicates() {
+        List<Long> expected = paymentService.getUserPayments(user.getId()).stream()
+                .map(PaymentDTO::getId)
+                .toList();
+        assertEquals(BOOKINGS, expected.size());
+
+        List<Long> paged = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        Long cursor = null;
+        CursorPage<PaymentDTO> page;
+        do {
+            page = paymentService.getUserPaymentsPage(user.getId(), cursor, 2);
+            page.getItems().forEach(payment -> paged.add(payment.getId()));
+            pageSizes.add(page.getItems().size());
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        assertEquals(List.of(2, 2, 1), pageSizes);
+        assertEquals(expected, paged);
+        for (int i = 1; i < paged.size(); i++) {
+            assertTrue(paged.get(i - 1) > paged.get(i));
+        }
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void pageSizeIsClampedToAllowedRange() {
+        CursorPage<PaymentDTO> single = paymentService.getUserPaymentsPage(user.getId(), null, 0);
+        assertEquals(1, single.getItems().size());
+        assertTrue(single.isHasNext());
+
+        CursorPage<PaymentDTO> all = paymentService.getUserPaymentsPage(user.getId(), null, CursorPage.MAX_SIZE * 10);
+        assertEquals(BOOKINGS, all.getItems().size());
+        assertFalse(all.isHasNext());
+    }
+}
@@ -0,0 +1,116 @@
+package com.hotel.booking.room.service;
+
+import com.hotel.booking.booking.dto.BookingStayDTO;
+import com.hotel.booking.booking.event.BookingCancelled;
+import com.hotel.booking.booking.event.BookingCreated;
+import com.hotel.booking.booking.repository.BookingRepository;
+import com.hotel.booking.room.entity.Room;
+import com.hotel.booking.room.repository.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RoomAvailabilityIndexTests {
+    private static final LocalDate DAY = LocalDate.of(2030, 5, 10);
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private RoomAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(bookingRepository.findActiveStays()).thenReturn(List.of(
+                new BookingStayDTO(1L, 100L, DAY, DAY.plusDays(2))));
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        when(roomRepository.findAll()).thenReturn(List.of(
+                room(100L, "A", true), room(101L, "A", true), room(102L, "A", false)));
+        index = new RoomAvailabilityIndex(bookingRepository, roomRepository, 3650);
+        index.rebuild();
+    }
+
+    @Test
+    void overlappingStayIsNotFree() {
+        assertFalse(index.isFree(100L, DAY.plusDays(1), DAY.plusDays(3)));
+        assertFalse(index.isFree(100L, DAY.minusDays(1), DAY.plusDays(1)));
+    }
+
+    @Test
+    void checkOutDayCanBeBookedAgain() {
+        assertTrue(index.isFree(100L, DAY.plusDays(2), DAY.plusDays(4)));
+        assertTrue(index.isFree(100L, DAY.minusDays(2), DAY));
+        assertTrue(index.isFree(200L, DAY, DAY.plusDays(2)));
+    }
+
+    @Test
+    void minRemainingIsFreeActiveRoomsOnBusiestNight() {
+        assertEquals(1, index.minRemaining("A", DAY, DAY.plusDays(1)));
+
+        index.add(new BookingStayDTO(2L, 101L, DAY.plusDays(1), DAY.plusDays(3)));
+        assertEquals(0, index.minRemaining("A", DAY, DAY.plusDays(2))); // DAY+1 박은 두 객실 모두 예약
+        assertEquals(1, index.minRemaining("A", DAY.plusDays(2), DAY.plusDays(3)));
+
+        index.remove(100L, 1L);
+        assertEquals(1, index.minRemaining("A", DAY, DAY.plusDays(2)));
+        assertEquals(-1, index.minRemaining("UNKNOWN", DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void overlappingStaysOfSameRoomAreCountedOnce() {
+        index.add(new BookingStayDTO(3L, 100L, DAY.plusDays(1), DAY.plusDays(3)));
+        assertEquals(1, index.minRemaining("A", DAY, DAY.plusDays(3)));
+
+        index.remove(100L, 1L); // DAY+1 박은 예약 3이 계속 점유
+        assertEquals(1, index.minRemaining("A", DAY.plusDays(1), DAY.plusDays(2)));
+        assertEquals(2, index.minRemaining("A", DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void removeKeepsNightsOfOtherBookings() {
+        index.add(new BookingStayDTO(2L, 100L, DAY.plusDays(1), DAY.plusDays(3)));
+        index.remove(100L, 1L);
+
+        assertTrue(index.isFree(100L, DAY, DAY.plusDays(1)));
+        assertFalse(index.isFree(100L, DAY.plusDays(1), DAY.plusDays(2)));
+    }
+
+    @Test
+    void bookingCommittedDuringRebuildIsKept() {
+        // 재구성의 DB 조회 이후 커밋된 예약 → 조회 결과에는 없고 이벤트는 조회 중에 도착
+        when(bookingRepository.findActiveStays()).thenAnswer(invocation -> {
+            index.onEvents(List.of(new BookingCreated(4L, 101L, "A", DAY, DAY.plusDays(1),
+                    BigDecimal.valueOf(100000), DAY.minusDays(30))));
+            return List.of(new BookingStayDTO(1L, 100L, DAY, DAY.plusDays(2)));
+        });
+
+        index.rebuild();
+
+        assertFalse(index.isFree(101L, DAY, DAY.plusDays(1)));
+        assertEquals(0, index.minRemaining("A", DAY, DAY.plusDays(1)));
+    }
+
+    @Test
+    void bookingCancelledDuringRebuildIsRemoved() {
+        // 조회 결과에 포함된 예약이 조회 중 취소됨
+        when(bookingRepository.findActiveStays()).thenAnswer(invocation -> {
+            index.onEvents(List.of(new BookingCancelled(1L, 100L, "A", DAY, DAY.plusDays(2))));
+            return List.of(new BookingStayDTO(1L, 100L, DAY, DAY.plusDays(2)));
+        });
+
+        index.rebuild();
+
+        assertTrue(index.isFree(100L, DAY, DAY.plusDays(2)));
+        assertEquals(2, index.minRemaining("A", DAY, DAY.plusDays(2)));
+    }
+
+    private static Room room(Long id, String type, boolean available) {
+        return Room.builder().id(id).type(type).available(available).build();
+    }
+}
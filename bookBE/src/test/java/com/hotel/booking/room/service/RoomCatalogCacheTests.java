@@ -0,0 +1,67 @@
+package com.hotel.booking.room.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.booking.room.dto.RoomDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RoomCatalogCacheTests {
+    private static final LocalDate DAY = LocalDate.of(2030, 5, 10);
+
+    private RoomCatalogCache cache;
+    private AtomicInteger loads;
+    private Supplier<List<RoomDTO>> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RoomCatalogCache(new RoomJsonCache(new ObjectMapper().findAndRegisterModules()), 100);
+        loads = new AtomicInteger();
+        loader = () -> List.of(RoomDTO.builder().id((long) loads.incrementAndGet()).name("Deluxe").build());
+    }
+
+    @Test
+    void sameKeyIsServedFromCacheUntilInvalidated() {
+        RoomCatalogCache.CatalogResponse first = cache.get("/api/rooms", DAY, DAY.plusDays(2), loader);
+        assertSame(first, cache.get("/api/rooms", DAY, DAY.plusDays(2), loader));
+        assertEquals(1, loads.get());
+
+        cache.invalidate(); // 트랜잭션 밖에서는 즉시 반영
+        RoomCatalogCache.CatalogResponse second = cache.get("/api/rooms", DAY, DAY.plusDays(2), loader);
+        assertEquals(2, loads.get());
+        assertNotEquals(first.etag(), second.etag());
+    }
+
+    @Test
+    void datesArePartOfKey() {
+        cache.get("/api/rooms", DAY, DAY.plusDays(2), loader);
+        cache.get("/api/rooms", DAY, DAY.plusDays(3), loader);
+        cache.get("/api/rooms", null, null, loader);
+        assertEquals(3, loads.get());
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    void fragmentsMatchJacksonListSerialization() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        RoomJsonCache jsonCache = new RoomJsonCache(objectMapper);
+        List<RoomDTO> rooms = List.of(
+                RoomDTO.builder().id(1L).name("Deluxe").description("설명 \"따옴표\"").allBooked(false).build(),
+                RoomDTO.builder().id(2L).name("Suite").allBooked(true).build());
+
+        assertEquals(objectMapper.writeValueAsString(rooms), new String(jsonCache.writeList(rooms), StandardCharsets.UTF_8));
+        assertEquals("[]", new String(jsonCache.writeList(List.of()), StandardCharsets.UTF_8));
+
+        jsonCache.writeList(rooms);
+        assertEquals(2, jsonCache.getHits());
+    }
+}
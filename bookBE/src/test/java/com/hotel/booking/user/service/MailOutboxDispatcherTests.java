@@ -0,0 +1,110 @@
+package com.hotel.booking.user.service;
+
+import com.hotel.booking.user.entity.MailOutbox;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메일 아웃박스 디스패처를 로컬 SMTP 서버(GreenMail)로 검증 (DB 없이 MailService는 mock)
+ */
+class MailOutboxDispatcherTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final MailService mailService = mock(MailService.class);
+
+    private MailOutboxDispatcher dispatcher(int port, int maxAttempts) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        return new MailOutboxDispatcher(mailService, mailSender, true, 10, maxAttempts, 1000, 60000, 300000, 3600000);
+    }
+
+    private MailOutbox mail(long id, String recipient, int attempts) {
+        return MailOutbox.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("subject " + id)
+                .body("body " + id)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void sendsWholeBatchAndMarksSent() throws Exception {
+        List<MailOutbox> batch = List.of(
+                mail(1, "a@test.local", 1), mail(2, "b@test.local", 1), mail(3, "c@test.local", 1));
+        when(mailService.claimBatch(anyInt(), anyLong())).thenReturn(batch).thenReturn(List.of());
+
+        int processed = dispatcher(ServerSetupTest.SMTP.getPort(), 5).dispatchBatch();
+
+        assertEquals(3, processed);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(3, received.length);
+        assertEquals("subject 1", received[0].getSubject());
+        batch.forEach(m -> {
+            assertEquals(MailOutbox.MailStatus.SENT, m.getStatus());
+            assertNotNull(m.getSentAt());
+        });
+        verify(mailService).saveResults(batch);
+    }
+
+    @Test
+    void connectionFailureSchedulesRetryThenFails() {
+        MailOutbox retrying = mail(1, "a@test.local", 1);
+        MailOutbox exhausted = mail(2, "b@test.local", 3);
+        List<MailOutbox> batch = List.of(retrying, exhausted);
+        when(mailService.claimBatch(anyInt(), anyLong())).thenReturn(batch);
+
+        // 아무도 듣지 않는 포트로 연결 실패 유도
+        dispatcher(1, 3).dispatchBatch();
+
+        assertEquals(MailOutbox.MailStatus.PENDING, retrying.getStatus());
+        assertTrue(retrying.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertNotNull(retrying.getLastError());
+        assertEquals(MailOutbox.MailStatus.FAILED, exhausted.getStatus());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        verify(mailService).saveResults(batch);
+    }
+
+    @Test
+    void purgeDeletesFinishedMailOlderThanRetention() {
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        LocalDateTime before = LocalDateTime.now().minusHours(1);
+
+        dispatcher(ServerSetupTest.SMTP.getPort(), 5).purgeExpired();
+
+        verify(mailService).purgeFinished(cutoff.capture());
+        assertTrue(!cutoff.getValue().isBefore(before));
+        assertTrue(!cutoff.getValue().isAfter(LocalDateTime.now().minusHours(1)));
+    }
+
+    @Test
+    void purgeIsSkippedWhenOutboxDisabled() {
+        new MailOutboxDispatcher(mailService, new JavaMailSenderImpl(), false, 10, 5, 1000, 60000, 300000, 3600000)
+                .purgeExpired();
+
+        verify(mailService, never()).purgeFinished(any());
+    }
+}
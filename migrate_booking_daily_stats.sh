@@ -0,0 +1,37 @@
+#!/bin/bash
+
+# 예약 통계 롤업 마이그레이션
+# - booking_daily_stats.room_nights(날짜별 점유 객실 수)가 없는 DB에 컬럼을 추가
+# - ddl-auto: update는 기본값 없는 NOT NULL 컬럼을 행이 있는 테이블에 추가하지 못함
+# - 추가 후 관리자 통계 재계산(POST /api/admin/statistics/rebuild)으로 점유 객실 수를 채움
+
+echo "=== 예약 통계 롤업 마이그레이션 ==="
+echo ""
+
+# 데이터베이스 연결 정보 (application.yml에서 가져옴)
+DB_HOST="localhost"
+DB_PORT="5432"
+DB_NAME="hoteldb"
+DB_USER="sxxm"
+
+echo "1. booking_daily_stats 컬럼 확인..."
+psql -h $DB_HOST -p $DB_PORT -U $DB_USER -d $DB_NAME -c "
+SELECT column_name, is_nullable FROM information_schema.columns
+WHERE table_name = 'booking_daily_stats' AND column_name = 'room_nights';
+"
+
+echo ""
+read -p "마이그레이션을 실행하시겠습니까? (y/n): " -n 1 -r
+echo ""
+
+if [[ $REPLY =~ ^[Yy]$ ]]; then
+    echo "2. 마이그레이션 실행 중..."
+    psql -h $DB_HOST -p $DB_PORT -U $DB_USER -d $DB_NAME -v ON_ERROR_STOP=1 <<SQL
+ALTER TABLE booking_daily_stats ADD COLUMN IF NOT EXISTS room_nights BIGINT NOT NULL DEFAULT 0;
+SQL
+
+    echo ""
+    echo "✅ 마이그레이션 완료!"
+else
+    echo "마이그레이션이 취소되었습니다."
+fi
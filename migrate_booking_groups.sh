@@ -0,0 +1,54 @@
+#!/bin/bash
+
+# 단체 예약 결제 지원 마이그레이션
+# - 단체 예약 결제는 booking_id 없이 group_id만 가지므로 payments.booking_id NOT NULL 제거
+# - 단체 예약 합계 금액을 담도록 payments.amount를 NUMERIC(12,2)로 확장
+# - booking_groups 테이블, bookings.group_id, payments.group_id는 애플리케이션 시작 시 생성됨 (ddl-auto: update)
+# - 새 버전을 한 번 실행한 뒤 이 스크립트를 실행하면 "booking_id/group_id 중 하나만" 제약조건까지 추가
+
+echo "=== 단체 예약 결제 마이그레이션 ==="
+echo ""
+
+# 데이터베이스 연결 정보 (application.yml에서 가져옴)
+DB_HOST="localhost"
+DB_PORT="5432"
+DB_NAME="hoteldb"
+DB_USER="sxxm"
+
+echo "1. payments 컬럼 확인..."
+psql -h $DB_HOST -p $DB_PORT -U $DB_USER -d $DB_NAME -c "
+SELECT column_name, is_nullable FROM information_schema.columns
+WHERE table_name = 'payments' AND column_name IN ('booking_id', 'group_id');
+"
+
+echo ""
+read -p "마이그레이션을 실행하시겠습니까? (y/n): " -n 1 -r
+echo ""
+
+if [[ $REPLY =~ ^[Yy]$ ]]; then
+    echo "2. 마이그레이션 실행 중..."
+    psql -h $DB_HOST -p $DB_PORT -U $DB_USER -d $DB_NAME -v ON_ERROR_STOP=1 <<SQL
+BEGIN;
+
+ALTER TABLE payments ALTER COLUMN booking_id DROP NOT NULL;
+ALTER TABLE payments ALTER COLUMN amount TYPE NUMERIC(12, 2);
+
+DO \$\$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'payments' AND column_name = 'group_id')
+       AND NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'payments_booking_or_group') THEN
+        ALTER TABLE payments ADD CONSTRAINT payments_booking_or_group
+            CHECK ((booking_id IS NULL) <> (group_id IS NULL));
+    END IF;
+END
+\$\$;
+
+COMMIT;
+SQL
+
+    echo ""
+    echo "✅ 마이그레이션 완료!"
+else
+    echo "마이그레이션이 취소되었습니다."
+fi
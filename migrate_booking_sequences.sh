@@ -0,0 +1,62 @@
+#!/bin/bash
+
+# 예약/결제 ID를 IDENTITY에서 시퀀스(bookings_seq, payments_seq, INCREMENT 50)로 전환하는 마이그레이션
+# - 애플리케이션을 멈춘 상태에서 새 버전 배포 전에 실행
+# - 시퀀스를 현재 최대 ID 이후로 맞추므로 여러 번 실행해도 안전
+# - 기존 IDENTITY/DEFAULT를 제거해 ID 생성기가 둘이 되지 않도록 함
+
+echo "=== 예약/결제 ID 시퀀스 마이그레이션 ==="
+echo ""
+
+# 데이터베이스 연결 정보 (application.yml에서 가져옴)
+DB_HOST="localhost"
+DB_PORT="5432"
+DB_NAME="hoteldb"
+DB_USER="sxxm"
+
+echo "1. 현재 최대 ID 확인..."
+psql -h $DB_HOST -p $DB_PORT -U $DB_USER -d $DB_NAME -c "
+SELECT 'bookings' AS table_name, COALESCE(MAX(id), 0) AS max_id FROM bookings
+UNION ALL
+SELECT 'payments', COALESCE(MAX(id), 0) FROM payments;
+"
+
+echo ""
+read -p "마이그레이션을 실행하시겠습니까? (y/n): " -n 1 -r
+echo ""
+
+if [[ $REPLY =~ ^[Yy]$ ]]; then
+    echo "2. 마이그레이션 실행 중..."
+    psql -h $DB_HOST -p $DB_PORT -U $DB_USER -d $DB_NAME -v ON_ERROR_STOP=1 <<SQL
+BEGIN;
+
+ALTER TABLE bookings ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE bookings ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE payments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE payments ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS payments_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE bookings_seq INCREMENT BY 50;
+ALTER SEQUENCE payments_seq INCREMENT BY 50;
+
+-- Hibernate pooled 방식은 nextval 값 v에 대해 (v - 49 ~ v)를 사용하므로
+-- 시퀀스를 최대 ID로 맞추면 다음 할당은 (최대 ID + 1)부터 시작
+SELECT setval('bookings_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM bookings), 1));
+SELECT setval('payments_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM payments), 1));
+
+COMMIT;
+SQL
+
+    echo ""
+    echo "3. 마이그레이션 후 시퀀스 확인..."
+    psql -h $DB_HOST -p $DB_PORT -U $DB_USER -d $DB_NAME -c "
+SELECT sequencename, last_value, increment_by FROM pg_sequences
+WHERE sequencename IN ('bookings_seq', 'payments_seq');
+"
+
+    echo ""
+    echo "✅ 마이그레이션 완료!"
+else
+    echo "마이그레이션이 취소되었습니다."
+fi